@@ -0,0 +1,21 @@
+package com.auction.backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application caches.
+ *
+ * Backed by Caffeine (spring.cache.* in application.yml): bounded, expiring,
+ * with statistics recorded so hit/miss/eviction counts show up under
+ * /actuator/metrics/cache.* for sizing.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Login account snapshots by username (see CustomUserDetailsService).
+     */
+    public static final String USER_DETAILS = "userDetails";
+}
@@ -0,0 +1,43 @@
+package com.auction.backend.config;
+
+import com.auction.backend.graphql.ParsedDocumentCache;
+import com.auction.backend.graphql.PersistedQueries;
+import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.graphql.autoconfigure.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+/**
+ * GraphQL engine settings on top of Spring Boot's auto-configuration.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    /**
+     * Document provider of the GraphQL engine: persisted queries
+     * (auction.graphql.persisted-queries.*, see PersistedQueries) in front of
+     * the parsed document cache (auction.graphql.document-cache.*, see
+     * ParsedDocumentCache). Either can be turned off.
+     */
+    @Bean
+    public GraphQlSourceBuilderCustomizer preparsedDocumentCustomizer(
+            @Value("${auction.graphql.persisted-queries.mode:automatic}") PersistedQueries.Mode mode,
+            @Value("${auction.graphql.persisted-queries.manifest:classpath:graphql/persisted-query-manifest.json}") Resource manifest,
+            @Value("${auction.graphql.persisted-queries.cache-size:1000}") long persistedCacheSize,
+            @Value("${auction.graphql.document-cache.size:500}") long documentCacheSize,
+            MeterRegistry meterRegistry
+    ) {
+        PreparsedDocumentProvider provider = documentCacheSize > 0
+                ? new ParsedDocumentCache(documentCacheSize, meterRegistry)
+                : NoOpPreparsedDocumentProvider.INSTANCE;
+        if (mode != PersistedQueries.Mode.OFF) {
+            provider = new PersistedQueries(mode, manifest, persistedCacheSize, provider, meterRegistry);
+        }
+        PreparsedDocumentProvider documents = provider;
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documents));
+    }
+}
@@ -0,0 +1,80 @@
+package com.auction.backend.config;
+
+import com.auction.backend.service.PlayerImportReport;
+import com.auction.backend.service.PlayerImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Startup command for the bulk player import:
+ *
+ *   java -jar app.jar --import-players=players.csv
+ *
+ * The file is streamed from disk (.json as a JSON array, anything else as CSV)
+ * and the report is logged; the application then keeps running as usual.
+ * Only the first rejected rows are logged one by one, then one line per
+ * chunk, so a file of bad rows cannot flood the log.
+ */
+@Component
+public class PlayerImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerImportRunner.class);
+
+    static final String OPTION = "import-players";
+    static final int LOGGED_ROWS = 20;
+
+    private final PlayerImportService playerImportService;
+
+    public PlayerImportRunner(PlayerImportService playerImportService) {
+        this.playerImportService = playerImportService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<String> files = args.getOptionValues(OPTION);
+        if (files == null) {
+            return;
+        }
+
+        for (String file : files) {
+            Path path = Path.of(file);
+            PlayerImportService.Format format = path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")
+                    ? PlayerImportService.Format.JSON
+                    : PlayerImportService.Format.CSV;
+
+            PlayerImportReport report;
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                report = playerImportService.importPlayers(reader, format);
+            }
+
+            log.info("Player import from {}: {} imported, {} rejected", path, report.imported(), report.rejected());
+            int logged = 0;
+            for (PlayerImportReport.Chunk chunk : report.chunks()) {
+                int unlogged = 0;
+                for (PlayerImportReport.RowError error : chunk.errors()) {
+                    if (logged < LOGGED_ROWS) {
+                        log.warn("Player import from {}, row {}: {}", path, error.row(), error.message());
+                        logged++;
+                    } else {
+                        unlogged++;
+                    }
+                }
+                if (unlogged > 0) {
+                    log.warn("Player import from {}, rows {}-{}: {} more rejected rows not logged",
+                            path, chunk.firstRow(), chunk.lastRow(), unlogged);
+                }
+            }
+        }
+    }
+}
@@ -9,7 +9,8 @@ import java.time.Instant;
 public class Auction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auctions_seq")
+    @SequenceGenerator(name = "auctions_seq", sequenceName = "auctions_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -19,6 +20,14 @@ public class Auction {
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    /**
+     * The player under the hammer, if any. Only moved by the conditional
+     * updates in AuctionRepository, so two concurrent starts cannot both win.
+     */
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "current_auction_player_id", unique = true)
+    private AuctionPlayer currentAuctionPlayer;
+
     public Auction() {
         this.status = AuctionStatus.CREATED;
         this.createdAt = Instant.now();
@@ -36,6 +45,10 @@ public class Auction {
         return createdAt;
     }
 
+    public AuctionPlayer getCurrentAuctionPlayer() {
+        return currentAuctionPlayer;
+    }
+
     /* ---- Domain behavior (very minimal for now) ---- */
 
     public void start() {
@@ -6,17 +6,26 @@ import java.math.BigDecimal;
 import java.time.Instant;
 
 @Entity
-@Table(name = "auction_players")
+@Table(
+        name = "auction_players",
+        indexes = {
+                // Board of an auction, and its players in a given status
+                @Index(name = "idx_auction_players_auction_status", columnList = "auction_id, status"),
+                // Board pages seek on id within the auction (auctionPlayersConnection)
+                @Index(name = "idx_auction_players_auction_id", columnList = "auction_id, id")
+        }
+)
 public class AuctionPlayer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auction_players_seq")
+    @SequenceGenerator(name = "auction_players_seq", sequenceName = "auction_players_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private Auction auction;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private Player player;
 
     @Column(nullable = false, precision = 10, scale = 2)
@@ -29,12 +38,19 @@ public class AuctionPlayer {
     @Column(nullable = false)
     private AuctionPlayerStatus status;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Team currentHighestBidTeam;
 
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    // Bidding closes at this instant (set on start, reset by every valid bid)
+    private Instant timerEndAt;
+
+    // Optimistic concurrency: concurrent bid/state updates cannot silently overwrite each other
+    @Version
+    private Long version;
+
     protected AuctionPlayer() {
         // JPA
     }
@@ -76,13 +92,22 @@ public class AuctionPlayer {
         return currentHighestBidTeam;
     }
 
+    public Instant getTimerEndAt() {
+        return timerEndAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     /* ---- Domain behavior (minimal, intentional) ---- */
 
-    public void start() {
+    public void start(Instant timerEndAt) {
         if (status != AuctionPlayerStatus.NOT_STARTED) {
             throw new IllegalStateException("AuctionPlayer cannot be started");
         }
         this.status = AuctionPlayerStatus.LIVE;
+        this.timerEndAt = timerEndAt;
     }
 
     public void markSold(Team winningTeam, BigDecimal finalPrice) {
@@ -110,4 +135,11 @@ public class AuctionPlayer {
     this.currentPrice = amount;
 }
 
+    public void resetTimer(Instant timerEndAt) {
+        if (status != AuctionPlayerStatus.LIVE) {
+            throw new IllegalStateException("Only LIVE AuctionPlayer has a running timer");
+        }
+        this.timerEndAt = timerEndAt;
+    }
+
 }
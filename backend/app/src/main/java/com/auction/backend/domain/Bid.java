@@ -1,41 +1,100 @@
 package com.auction.backend.domain;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 
+/**
+ * Immutable bid event.
+ *
+ * The id is assigned by the bid engine when the bid is logged (see BidWriter),
+ * so it is known before the row is inserted and inserts can be batched.
+ * The bidder is answered with an acknowledged Bid at that point: same id,
+ * referencing its player and team by id only (see acknowledged).
+ */
 @Entity
-@Table(name = "bids")
-public class Bid {
+@Table(
+        name = "bids",
+        // Bid history of a player, already in order: no filesort as bids pile up
+        indexes = @Index(name = "idx_bids_auction_player_created", columnList = "auction_player_id, created_at")
+)
+public class Bid implements Persistable<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private AuctionPlayer auctionPlayer;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private Team team;
 
+    // Same columns as the associations, readable without them (acknowledged bids have none)
+    @Column(name = "auction_player_id", nullable = false, insertable = false, updatable = false)
+    private Long auctionPlayerId;
+
+    @Column(name = "team_id", nullable = false, insertable = false, updatable = false)
+    private Long teamId;
+
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal amount;
 
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    @Transient
+    private boolean stored;
+
     protected Bid() {
         // JPA
     }
 
-    public Bid(AuctionPlayer auctionPlayer, Team team, BigDecimal amount) {
+    /**
+     * @param createdAt server time the bid was accepted (may precede persistence)
+     */
+    public Bid(Long id, AuctionPlayer auctionPlayer, Team team, BigDecimal amount, Instant createdAt) {
+        this.id = id;
         this.auctionPlayer = auctionPlayer;
         this.team = team;
+        this.auctionPlayerId = auctionPlayer.getId();
+        this.teamId = team.getId();
         this.amount = amount;
-        this.createdAt = Instant.now();
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * A bid as the engine accepted it, before BidWriter has stored it: not an
+     * entity to save, getAuctionPlayer() and getTeam() are null. The stored
+     * row has the same id, and usually the same amount (a bid that lost a
+     * race or went stale may be re-priced or rejected when stored).
+     */
+    public static Bid acknowledged(Long id, Long auctionPlayerId, Long teamId, BigDecimal amount, Instant createdAt) {
+        Bid bid = new Bid();
+        bid.id = id;
+        bid.auctionPlayerId = auctionPlayerId;
+        bid.teamId = teamId;
+        bid.amount = amount;
+        bid.createdAt = createdAt;
+        return bid;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        this.stored = true;
     }
 
+    /**
+     * Assigned ids: without this, saving a new Bid would look it up first.
+     */
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    @Override
     public Long getId() {
         return id;
     }
@@ -48,6 +107,14 @@ public class Bid {
         return team;
     }
 
+    public Long getAuctionPlayerId() {
+        return auctionPlayerId;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
     public BigDecimal getAmount() {
         return amount;
     }
@@ -0,0 +1,128 @@
+package com.auction.backend.domain;
+
+import com.auction.backend.exception.DomainException;
+
+import java.math.BigDecimal;
+
+/**
+ * Bidding rules from the design doc, shared by every place that validates a bid.
+ *
+ * - From base price up to 5 cr: +0.2 cr
+ * - Above 5 cr: +0.5 cr
+ * - Amounts are in hundredths at most, as stored
+ * - Purse check enforced strictly
+ * - Earlier server timestamp wins; a later concurrent bid is still
+ *   recorded as next valid bid, if the winner took only the next price level
+ */
+public final class BidRules {
+
+    private static final BigDecimal INCREMENT_THRESHOLD = BigDecimal.valueOf(5);
+    private static final BigDecimal SMALL_INCREMENT = BigDecimal.valueOf(0.2);
+    private static final BigDecimal LARGE_INCREMENT = BigDecimal.valueOf(0.5);
+    private static final int AMOUNT_SCALE = 2;
+
+    private BidRules() {
+    }
+
+    /**
+     * Validate a bid against the current price and return the amount to record.
+     *
+     * @param currentPrice   current (leading) price
+     * @param contestedPrice price the bid was placed against if it raced with the
+     *                       current leading bid, or null if it did not race
+     * @param leadingTeamId  team holding the current leading bid (may be null)
+     * @param teamId         bidding team
+     * @param purse          bidding team's purse
+     * @param amount         amount requested by the team
+     * @return requested amount, or the next valid bid if it lost a concurrent race
+     *         for its price level
+     */
+    public static BigDecimal resolveAmount(
+            BigDecimal currentPrice,
+            BigDecimal contestedPrice,
+            Long leadingTeamId,
+            Long teamId,
+            BigDecimal purse,
+            BigDecimal amount
+    ) {
+        validateScale(amount);
+        BigDecimal recorded = amount;
+
+        if (amount.compareTo(currentPrice) <= 0) {
+            if (!lostConcurrentRace(currentPrice, contestedPrice, leadingTeamId, teamId, amount)) {
+                throw new DomainException(DomainException.Reason.INCREMENT_TOO_SMALL, "Bid must be higher than current price");
+            }
+            // Later concurrent bid is still recorded as next valid bid
+            recorded = nextValidBid(currentPrice);
+        } else {
+            validateIncrement(currentPrice, amount);
+        }
+
+        if (purse.compareTo(recorded) < 0) {
+            throw new DomainException(DomainException.Reason.INSUFFICIENT_PURSE, "Insufficient purse for this bid");
+        }
+
+        return recorded;
+    }
+
+    /**
+     * Prices are stored (and logged) with two decimals; anything finer would
+     * have to be rounded to a bid the team did not place.
+     */
+    public static void validateScale(BigDecimal amount) {
+        if (amount.stripTrailingZeros().scale() > AMOUNT_SCALE) {
+            throw new DomainException(
+                    DomainException.Reason.INVALID_AMOUNT,
+                    "Bid amounts have at most " + AMOUNT_SCALE + " decimals"
+            );
+        }
+    }
+
+    public static void validateIncrement(BigDecimal currentPrice, BigDecimal amount) {
+
+        BigDecimal increment = amount.subtract(currentPrice);
+
+        BigDecimal expectedIncrement = minimumIncrement(currentPrice);
+
+        if (increment.compareTo(expectedIncrement) < 0) {
+            throw new DomainException(
+                    DomainException.Reason.INCREMENT_TOO_SMALL,
+                    "Minimum increment is " + expectedIncrement
+            );
+        }
+    }
+
+    public static BigDecimal minimumIncrement(BigDecimal currentPrice) {
+        return currentPrice.compareTo(INCREMENT_THRESHOLD) < 0
+                ? SMALL_INCREMENT
+                : LARGE_INCREMENT;
+    }
+
+    public static BigDecimal nextValidBid(BigDecimal currentPrice) {
+        return currentPrice.add(minimumIncrement(currentPrice));
+    }
+
+    /**
+     * A bid lost a concurrent race if it was valid against the price it competed
+     * for, and another team got there first by taking exactly the next price
+     * level. A winner that jumped further did not take this bid's level, so the
+     * bid is not moved up to it (the team would pay far more than it offered).
+     * A team never races against its own leading bid.
+     */
+    private static boolean lostConcurrentRace(
+            BigDecimal currentPrice,
+            BigDecimal contestedPrice,
+            Long leadingTeamId,
+            Long teamId,
+            BigDecimal amount
+    ) {
+        if (contestedPrice == null || teamId.equals(leadingTeamId)) {
+            return false;
+        }
+        if (currentPrice.compareTo(nextValidBid(contestedPrice)) != 0) {
+            return false;
+        }
+
+        return amount.subtract(contestedPrice).compareTo(minimumIncrement(contestedPrice)) >= 0;
+    }
+}
@@ -9,7 +9,8 @@ import jakarta.persistence.*;
 public class Player {
 
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="players_seq")
+    @SequenceGenerator(name="players_seq", sequenceName="players_seq", allocationSize=50)
     private Long id;
 
     @Column(nullable=false)
@@ -9,7 +9,8 @@ import jakarta.persistence.*;
 @Table(name="teams",uniqueConstraints={@UniqueConstraint(columnNames="name")})
 public class Team {
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="teams_seq")
+    @SequenceGenerator(name="teams_seq", sequenceName="teams_seq", allocationSize=50)
     private Long id;
 
     @Column(nullable=false)
@@ -24,6 +25,9 @@ public class Team {
     @Column(nullable=false, updatable=false)
     private Instant createdAt;
 
+    @Version
+    private Long version;
+
     protected Team(){}
 
     public Team(String name, BigDecimal purse,int maxSquadSize){
@@ -52,4 +56,8 @@ public class Team {
     public Instant getCreatedAt() {
         return createdAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
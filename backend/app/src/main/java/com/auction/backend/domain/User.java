@@ -10,13 +10,16 @@ import java.time.Instant;
  * - Password stored as BCrypt hash (never plain text)
  * - Role-based access control (ADMIN, TEAM_USER)
  * - Optional relationship with Team (admins don't belong to teams)
+ * - Token version: role/team are embedded in issued JWTs, so changing them
+ *   bumps the version and invalidates every token issued before
  */
 @Entity
 @Table(name = "users")
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -32,13 +35,16 @@ public class User {
     @Column(nullable = false)
     private Role role;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team; // Null for admins
 
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    @Column(nullable = false)
+    private int tokenVersion;
+
     protected User() {
         // JPA requires no-arg constructor
     }
@@ -81,8 +87,20 @@ public class User {
         return createdAt;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
     // Domain behavior
+    // Issued tokens embed the team: follow with AuthService.revokeTokens
     public void setTeam(Team team) {
         this.team = team;
     }
+
+    /**
+     * Invalidate all tokens issued so far (they carry the old version).
+     */
+    public void revokeTokens() {
+        this.tokenVersion++;
+    }
 }
@@ -0,0 +1,43 @@
+package com.auction.backend.engine;
+
+import com.auction.backend.domain.Bid;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A bid accepted by the engine, as logged in the BidEventLog and drained by BidWriter.
+ *
+ * @param teamVersion   version of the team the bid was validated against
+ * @param previousPrice price the bid was validated against; BidWriter expects
+ *                      to find it in the database, otherwise it re-validates
+ * @param timerEndAt    deadline after this bid reset the timer
+ * @param result        completed with the stored Bid once BidWriter has committed it
+ */
+public record AcceptedBid(
+        Long auctionPlayerId,
+        Long teamId,
+        Long teamVersion,
+        BigDecimal previousPrice,
+        BigDecimal amount,
+        long sequence,
+        Instant timerEndAt,
+        Instant acceptedAt,
+        CompletableFuture<Bid> result
+) {
+
+    public AcceptedBid(
+            Long auctionPlayerId,
+            Long teamId,
+            Long teamVersion,
+            BigDecimal previousPrice,
+            BigDecimal amount,
+            long sequence,
+            Instant timerEndAt,
+            Instant acceptedAt
+    ) {
+        this(auctionPlayerId, teamId, teamVersion, previousPrice, amount, sequence, timerEndAt, acceptedAt,
+                new CompletableFuture<>());
+    }
+}
@@ -0,0 +1,232 @@
+package com.auction.backend.engine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timer wheel for auction deadlines.
+ *
+ * Key Design Decisions:
+ * - The wheel is a ring of buckets, one per tick (default 100 ms).
+ *   A deadline lands in bucket (deadlineTick % wheelSize) and remembers how
+ *   many full rotations are left, so scheduling and cancelling are O(1)
+ *   no matter how many thousands of deadlines are pending.
+ * - A single worker thread advances the wheel; callers only touch lock-free
+ *   queues, which the worker drains at each tick.
+ * - Deadlines fire up to one tick late, never early.
+ * - Tasks run on the worker thread and must be short (hand work off).
+ */
+@Component
+public class AuctionTimerWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionTimerWheel.class);
+
+    private final long tickMillis;
+    private final int mask;
+    private final Bucket[] wheel;
+
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    private Thread worker;
+    private volatile boolean running;
+    private long startMillis;
+    private long tick;
+
+    public AuctionTimerWheel(
+            @Value("${auction.timer.tick:100ms}") Duration tickDuration,
+            @Value("${auction.timer.wheel-size:512}") int wheelSize
+    ) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = Math.max(1, tickDuration.toMillis());
+        this.mask = wheelSize - 1;
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Run a task once the deadline has passed.
+     */
+    public Timeout schedule(Instant deadline, Runnable task) {
+        Timeout timeout = new Timeout(deadline.toEpochMilli(), task);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        startMillis = System.currentTimeMillis();
+        running = true;
+        worker = new Thread(this::run, "auction-timer-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        while (running) {
+            long sleep = startMillis + (tick + 1) * tickMillis - System.currentTimeMillis();
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException ex) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+
+            removeCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.state.get() != Timeout.WAITING) {
+                continue;
+            }
+
+            long deadlineTick = (timeout.deadlineMillis - startMillis) / tickMillis;
+            long targetTick = Math.max(deadlineTick, tick); // already past: fire this tick
+
+            timeout.remainingRounds = (targetTick - tick) / wheel.length;
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Handle to a scheduled deadline.
+     */
+    public final class Timeout {
+
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final long deadlineMillis;
+        private final Runnable task;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        // Owned by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(long deadlineMillis, Runnable task) {
+            this.deadlineMillis = deadlineMillis;
+            this.task = task;
+        }
+
+        public Instant deadline() {
+            return Instant.ofEpochMilli(deadlineMillis);
+        }
+
+        /**
+         * @return false if the task already ran (or was already cancelled)
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED)) {
+                return false;
+            }
+            cancelled.add(this);
+            return true;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(WAITING, EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                log.error("Timer task failed", ex);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of timeouts sharing a slot; only used by the worker thread.
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+}
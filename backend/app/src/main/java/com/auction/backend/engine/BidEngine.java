@@ -0,0 +1,270 @@
+package com.auction.backend.engine;
+
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.AuctionPlayerStatus;
+import com.auction.backend.domain.Team;
+import com.auction.backend.event.BiddingClosedEvent;
+import com.auction.backend.event.TeamChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * In-memory bid engine.
+ *
+ * Key Design Decisions:
+ * - Each auction is served by one "lane": a single-threaded executor.
+ *   Every command touching a LiveAuctionPlayer of that auction runs on it,
+ *   so bids are applied strictly one after another without any locks.
+ * - A fixed set of lanes (auction.bidding.lanes) is shared by all auctions,
+ *   picked by auction id: the thread count stays bounded however many
+ *   auctions are ever run, and auctions on different lanes never contend.
+ * - Each lane appends to its own BidEventLog (BidWriter keeps one per lane),
+ *   so accepting a bid takes no lock another lane could hold.
+ * - Lanes stay platform threads while requests run on virtual threads: the
+ *   lane holds its log's monitor (and may force the mapped file to disk),
+ *   which would pin a virtual thread's carrier.
+ * - LIVE AuctionPlayers and bidding teams are held in memory, so accepting
+ *   a bid needs no database round trip (persistence is done by BidWriter).
+ *   Teams are held as immutable snapshots, dropped when a TeamChangedEvent
+ *   commits.
+ * - State BidWriter found out of sync is replaced on the lane, after the
+ *   commands already queued there: the old instance is closed and its timer
+ *   cancelled, and a command still holding it works on the replacement.
+ * - The engine owns the bidding timer (design doc: 2 minutes when a player
+ *   appears, reset to 30 seconds on every valid bid). Deadlines live on the
+ *   AuctionTimerWheel; expiry runs on the lane, after the bids accepted
+ *   before it, and is announced as a BiddingClosedEvent on a task executor
+ *   thread (virtual), so closing a player never blocks a lane.
+ */
+@Component
+public class BidEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(BidEngine.class);
+
+    private final ConcurrentMap<Long, LiveAuctionPlayer> livePlayers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, TeamSnapshot> teams = new ConcurrentHashMap<>();
+
+    private final ExecutorService[] lanes;
+    private final AuctionTimerWheel timerWheel;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor closer;
+    private final Duration initialTimer;
+    private final Duration bidTimer;
+
+    public BidEngine(
+            AuctionTimerWheel timerWheel,
+            ApplicationEventPublisher eventPublisher,
+            @Qualifier("applicationTaskExecutor") Executor closer,
+            @Value("${auction.timer.initial:2m}") Duration initialTimer,
+            @Value("${auction.timer.after-bid:30s}") Duration bidTimer,
+            @Value("${auction.bidding.lanes:0}") int laneCount
+    ) {
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ExecutorService[count];
+        for (int i = 0; i < count; i++) {
+            String name = "bid-lane-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.timerWheel = timerWheel;
+        this.eventPublisher = eventPublisher;
+        this.closer = closer;
+        this.initialTimer = initialTimer;
+        this.bidTimer = bidTimer;
+    }
+
+    /**
+     * Deadline for a player that has just been put under the hammer.
+     */
+    public Instant initialDeadline(Instant now) {
+        return now.plus(initialTimer);
+    }
+
+    /**
+     * Start tracking a LIVE AuctionPlayer and arm its timer.
+     * If it is already tracked, the existing state wins.
+     */
+    public LiveAuctionPlayer open(AuctionPlayer auctionPlayer) {
+        // Rows started before timers existed get a fresh bidding window
+        Instant timerEndAt = auctionPlayer.getTimerEndAt() != null
+                ? auctionPlayer.getTimerEndAt()
+                : Instant.now().plus(bidTimer);
+
+        LiveAuctionPlayer live = new LiveAuctionPlayer(auctionPlayer, timerEndAt);
+        arm(live, timerEndAt);
+
+        LiveAuctionPlayer existing = livePlayers.putIfAbsent(live.getAuctionPlayerId(), live);
+        if (existing != null) {
+            live.arm(timerEndAt, null); // cancels our timeout
+            return existing;
+        }
+        return live;
+    }
+
+    /**
+     * Deadline after a bid accepted at the given time.
+     */
+    public Instant bidDeadline(Instant now) {
+        return now.plus(bidTimer);
+    }
+
+    /**
+     * Restart the timer after a valid bid. Must run on the lane thread.
+     */
+    public void resetTimer(LiveAuctionPlayer live, Instant timerEndAt) {
+        arm(live, timerEndAt);
+    }
+
+    /**
+     * @return tracked state, or null if the player is not held in memory
+     */
+    public LiveAuctionPlayer find(Long auctionPlayerId) {
+        return livePlayers.get(auctionPlayerId);
+    }
+
+    /**
+     * Replace the in-memory state with the stored row, on the lane (after the
+     * commands already queued there). A row that is no longer LIVE is dropped.
+     */
+    public void reload(AuctionPlayer stored) {
+        submit(stored.getAuction().getId(), () -> {
+            LiveAuctionPlayer previous = retire(stored.getId());
+            if (stored.getStatus() == AuctionPlayerStatus.LIVE) {
+                LiveAuctionPlayer reloaded = open(stored);
+                if (previous != null) {
+                    reloaded.trackWrite(previous.getLastWrite()); // closing waits for its bids too
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Drop the in-memory state of a player whose row is gone (on the lane).
+     */
+    public void evict(Long auctionPlayerId) {
+        LiveAuctionPlayer live = livePlayers.get(auctionPlayerId);
+        if (live != null) {
+            submit(live.getAuctionId(), () -> retire(auctionPlayerId));
+        }
+    }
+
+    private LiveAuctionPlayer retire(Long auctionPlayerId) {
+        LiveAuctionPlayer previous = livePlayers.remove(auctionPlayerId);
+        if (previous != null) {
+            previous.close();
+            previous.arm(previous.getTimerEndAt(), null); // cancels its timeout
+        }
+        return previous;
+    }
+
+    /**
+     * @return cached team, or null if it has not been loaded yet
+     */
+    public TeamSnapshot findTeam(Long teamId) {
+        return teams.get(teamId);
+    }
+
+    /**
+     * Cache (or refresh) a team. BidWriter re-checks its version on persist,
+     * so a stale purse is caught there.
+     */
+    public void cacheTeam(Team team) {
+        teams.put(team.getId(), TeamSnapshot.of(team));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        teams.remove(event.teamId());
+    }
+
+    /**
+     * Run a command on the auction's lane thread.
+     */
+    public <T> CompletableFuture<T> submit(Long auctionId, Supplier<T> command) {
+        return CompletableFuture.supplyAsync(command, lane(auctionId));
+    }
+
+    private void arm(LiveAuctionPlayer live, Instant timerEndAt) {
+        AuctionTimerWheel.Timeout timeout = timerWheel.schedule(timerEndAt, () ->
+                submit(live.getAuctionId(), () -> {
+                    expire(live);
+                    return null;
+                })
+        );
+        live.arm(timerEndAt, timeout);
+    }
+
+    /**
+     * Runs on the lane thread once a deadline has passed: stop accepting bids,
+     * then announce the close after the last accepted bid is persisted. The
+     * close (a transaction) runs on the closer, never on the lane, where it
+     * would hold up the bids of every auction sharing it.
+     */
+    private void expire(LiveAuctionPlayer live) {
+        Long auctionPlayerId = live.getAuctionPlayerId();
+
+        LiveAuctionPlayer tracked = livePlayers.get(auctionPlayerId);
+        if (live.isClosed() || (tracked != null && tracked != live)) {
+            return; // reloaded state has its own timer
+        }
+        if (live.isOpenAt(Instant.now())) {
+            return; // superseded by a reset that raced with this timeout
+        }
+
+        live.close();
+        livePlayers.remove(auctionPlayerId, live);
+
+        live.getLastWrite().whenCompleteAsync((ignored, ex) -> {
+            try {
+                eventPublisher.publishEvent(new BiddingClosedEvent(auctionPlayerId));
+            } catch (RuntimeException closeFailure) {
+                log.error("Failed to close bidding for AuctionPlayer {}", auctionPlayerId, closeFailure);
+            }
+        }, closer);
+    }
+
+    /**
+     * Number of lanes; lanes are numbered 0 to laneCount() - 1.
+     */
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Lane serving the auction: its commands run there, one after another.
+     */
+    public int laneOf(Long auctionId) {
+        return Math.floorMod(Long.hashCode(auctionId), lanes.length);
+    }
+
+    private ExecutorService lane(Long auctionId) {
+        return lanes[laneOf(auctionId)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
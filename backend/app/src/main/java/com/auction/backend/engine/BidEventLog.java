@@ -0,0 +1,288 @@
+package com.auction.backend.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Local append-only log of accepted bids, memory-mapped.
+ *
+ * BidWriter keeps one log per bid lane (opened and closed by it): every
+ * accepted bid is appended to its lane's log first, BidWriter drains the
+ * logs to the database in batches and moves their drained marks forward.
+ * After a restart, the records past the drained mark are replayed.
+ *
+ * Key Design Decisions:
+ * - Fixed-size records (id, ids, prices in hundredths, instants in micros),
+ *   each with a CRC: recovery stops at the first torn or stale record.
+ * - The file is a ring of record slots: at the end of the file, writing
+ *   wraps to the first slot under the next generation, as long as that slot
+ *   has been drained. The drain never has to catch up completely, so steady
+ *   bidding cannot fill the file while the database keeps up. Records of an
+ *   older generation are ignored on recovery.
+ * - The slot count is fixed in the header when the file is created; a new
+ *   event-log.size applies to new files only.
+ * - While every slot holds an undrained bid (database down), appends fail
+ *   and bids are rejected rather than acknowledged without being logged.
+ * - fsync policy: ALWAYS forces every record before the bid is answered,
+ *   INTERVAL forces at most every fsync-interval (a power loss may lose the
+ *   last interval), NEVER leaves it to the OS (survives a process crash only).
+ */
+public class BidEventLog {
+
+    private static final Logger log = LoggerFactory.getLogger(BidEventLog.class);
+
+    public enum FsyncPolicy { ALWAYS, INTERVAL, NEVER }
+
+    private static final int MAGIC = 0x42494453; // "BIDS"
+    private static final int FORMAT = 1;
+
+    // Header: magic, format, generation and offset of the drained mark, slot count
+    private static final int HEADER_SIZE = 64;
+    private static final int GENERATION_AT = 8;
+    private static final int DRAINED_AT = 16;
+    private static final int SLOTS_AT = 24;
+
+    // Record: 9 longs, generation, CRC of everything before it
+    static final int RECORD_SIZE = 80;
+    private static final int RECORD_GENERATION_AT = 72;
+    private static final int RECORD_CRC_AT = 76;
+
+    private final Path path;
+    private final long capacity;
+    private final FsyncPolicy fsync;
+    private final long fsyncIntervalNanos;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long slots;
+    // Next slot to write (absolute: generation * slots + slot)
+    private long written;
+    // First slot not yet drained (absolute)
+    private long drained;
+    private long lastId;
+    private boolean dirty;
+    private long lastSync;
+    private List<Entry> undrained = List.of();
+
+    public BidEventLog(Path path, DataSize size, FsyncPolicy fsync, Duration fsyncInterval) {
+        if (size.toBytes() < HEADER_SIZE + RECORD_SIZE) {
+            throw new IllegalArgumentException("Bid event log is too small");
+        }
+        this.path = path;
+        this.capacity = size.toBytes();
+        this.fsync = fsync;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+    }
+
+    /**
+     * A logged bid.
+     *
+     * @param end position right after the record: drained mark once it is stored
+     */
+    public record Entry(long id, long end, AcceptedBid bid) {
+    }
+
+    public synchronized void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(capacity, channel.size()));
+
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT);
+            buffer.putInt(GENERATION_AT, 1);
+            buffer.putLong(DRAINED_AT, HEADER_SIZE);
+        } else if (buffer.getInt(4) != FORMAT) {
+            throw new IllegalStateException("Unsupported bid event log format in " + path);
+        }
+        if (buffer.getLong(SLOTS_AT) == 0) {
+            // New file, or one written before the log became a ring (it never wrapped)
+            buffer.putLong(SLOTS_AT, (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE);
+            buffer.force(0, HEADER_SIZE);
+        }
+
+        slots = buffer.getLong(SLOTS_AT);
+        drained = buffer.getInt(GENERATION_AT) * slots + (buffer.getLong(DRAINED_AT) - HEADER_SIZE) / RECORD_SIZE;
+        written = drained;
+        lastSync = System.nanoTime();
+
+        List<Entry> entries = new ArrayList<>();
+        while (written - drained < slots && isValid(written)) {
+            Entry entry = read(written);
+            entries.add(entry);
+            lastId = Math.max(lastId, entry.id());
+            written = entry.end();
+        }
+        undrained = entries;
+
+        if (!entries.isEmpty()) {
+            log.info("Bid event log {} has {} undrained bids", path, entries.size());
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Bids logged before the last shutdown and not yet drained, in log order.
+     */
+    public synchronized List<Entry> undrained() {
+        return undrained;
+    }
+
+    /**
+     * Highest bid id found in the log when it was opened.
+     */
+    public synchronized long lastId() {
+        return lastId;
+    }
+
+    /**
+     * Append an accepted bid.
+     *
+     * @return position right after the record, for markDrained
+     * @throws IllegalStateException if every slot holds an undrained bid
+     */
+    public synchronized long append(long id, AcceptedBid bid) {
+        if (channel == null || !channel.isOpen()) {
+            throw new IllegalStateException("Bid event log is closed");
+        }
+        if (written - drained >= slots) {
+            throw new IllegalStateException("Bid event log is full");
+        }
+
+        int offset = offset(written);
+        buffer.putLong(offset, id);
+        buffer.putLong(offset + 8, bid.auctionPlayerId());
+        buffer.putLong(offset + 16, bid.teamId());
+        buffer.putLong(offset + 24, bid.teamVersion() != null ? bid.teamVersion() : -1);
+        buffer.putLong(offset + 32, hundredths(bid.previousPrice()));
+        buffer.putLong(offset + 40, hundredths(bid.amount()));
+        buffer.putLong(offset + 48, bid.sequence());
+        buffer.putLong(offset + 56, micros(bid.timerEndAt()));
+        buffer.putLong(offset + 64, micros(bid.acceptedAt()));
+        buffer.putInt(offset + RECORD_GENERATION_AT, generation(written));
+        buffer.putInt(offset + RECORD_CRC_AT, checksum(offset));
+
+        written++;
+        if (fsync == FsyncPolicy.ALWAYS) {
+            buffer.force(offset, RECORD_SIZE);
+        } else {
+            dirty = true;
+        }
+        return written;
+    }
+
+    /**
+     * Everything up to (excluding) the given position is in the database:
+     * its slots can be written again.
+     */
+    public synchronized void markDrained(long end) {
+        if (end <= drained) {
+            return;
+        }
+        drained = end;
+
+        buffer.putInt(GENERATION_AT, generation(drained));
+        buffer.putLong(DRAINED_AT, offset(drained));
+
+        if (fsync == FsyncPolicy.ALWAYS) {
+            buffer.force(0, HEADER_SIZE);
+        } else {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Force pending writes if the INTERVAL policy says so. Called periodically by BidWriter.
+     */
+    public synchronized void sync() {
+        if (fsync != FsyncPolicy.INTERVAL || !dirty || buffer == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - lastSync >= fsyncIntervalNanos) {
+            buffer.force();
+            dirty = false;
+            lastSync = now;
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            return;
+        }
+        buffer.force();
+        channel.close();
+    }
+
+    private int generation(long position) {
+        return Math.toIntExact(position / slots);
+    }
+
+    private int offset(long position) {
+        return Math.toIntExact(HEADER_SIZE + (position % slots) * RECORD_SIZE);
+    }
+
+    private boolean isValid(long position) {
+        int offset = offset(position);
+        return buffer.getInt(offset + RECORD_GENERATION_AT) == generation(position)
+                && buffer.getInt(offset + RECORD_CRC_AT) == checksum(offset);
+    }
+
+    private Entry read(long position) {
+        int offset = offset(position);
+        long teamVersion = buffer.getLong(offset + 24);
+
+        AcceptedBid bid = new AcceptedBid(
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                teamVersion >= 0 ? teamVersion : null,
+                BigDecimal.valueOf(buffer.getLong(offset + 32), 2),
+                BigDecimal.valueOf(buffer.getLong(offset + 40), 2),
+                buffer.getLong(offset + 48),
+                instant(buffer.getLong(offset + 56)),
+                instant(buffer.getLong(offset + 64))
+        );
+        return new Entry(buffer.getLong(offset), position + 1, bid);
+    }
+
+    private int checksum(int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, RECORD_CRC_AT));
+        return (int) crc.getValue();
+    }
+
+    // Prices are stored with scale 2 in the database as well
+    private static long hundredths(BigDecimal price) {
+        return price.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    private static long micros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static Instant instant(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000);
+    }
+}
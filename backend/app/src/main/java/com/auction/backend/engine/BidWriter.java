@@ -0,0 +1,593 @@
+package com.auction.backend.engine;
+
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.AuctionPlayerStatus;
+import com.auction.backend.domain.Bid;
+import com.auction.backend.domain.BidRules;
+import com.auction.backend.domain.Team;
+import com.auction.backend.event.AuctionPlayerChangedEvent;
+import com.auction.backend.event.BidPlacedEvent;
+import com.auction.backend.exception.DomainException;
+import com.auction.backend.repository.AuctionPlayerRepository;
+import com.auction.backend.repository.BidRepository;
+import com.auction.backend.repository.TeamRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Writer for accepted bids: logs them, then persists them in the background.
+ *
+ * An accepted bid is appended to the BidEventLog of its lane (one log per
+ * BidEngine lane, bid-events-<lane>.log next to event-log.path, so lanes
+ * never wait for each other). Ids come from one lock-free counter: they
+ * follow acceptance order per auction, which is all polling needs. A single
+ * thread drains the logs in batches: one transaction
+ * stores every Bid of the batch and moves each touched AuctionPlayer to its
+ * latest accepted state. The bidder was already answered once the bid was
+ * logged (see BidService.placeBid). Committed bids are then announced as
+ * BidPlacedEvent / AuctionPlayerChangedEvent (live subscriptions), and the
+ * log's drained mark moves past them.
+ *
+ * On startup, bids left in the logs by the previous run are stored before
+ * anything else, in id order (bids already in the database are skipped by
+ * id). Logs of lanes that no longer exist (fewer lanes, or the single log
+ * of older versions) are replayed the same way, then deleted.
+ *
+ * Optimistic concurrency:
+ * - AuctionPlayer and Team are versioned, so a concurrent writer (another
+ *   instance, an admin transition) makes the commit fail instead of being
+ *   silently overwritten.
+ * - The batch is then retried (bounded). Each bid is re-validated against
+ *   the row it now finds; a bid that lost the race for its price level (the
+ *   row is exactly one increment past it) is recorded as the next valid bid,
+ *   as the design doc requires, and any other stale bid is rejected. Such a
+ *   bid was acknowledged as the engine accepted it, so the change reaches
+ *   bidders through the subscriptions (with what was stored), a warning and
+ *   the auction.bids.revised counter; the engine state is reloaded so the
+ *   next bids see the stored price.
+ * - If the database stays unavailable, the batch is retried until it
+ *   succeeds; the bids are safe in the log meanwhile.
+ * - A batch refused for any other reason (a constraint violation, say) is
+ *   stored one bid at a time: only the bids the database refuses on their
+ *   own are rejected, and the others are not held back by them.
+ */
+@Component
+public class BidWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(BidWriter.class);
+
+    private final BlockingQueue<Logged> queue = new LinkedTransferQueue<>();
+
+    private final AuctionPlayerRepository auctionPlayerRepository;
+    private final TeamRepository teamRepository;
+    private final BidRepository bidRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BidEngine bidEngine;
+    private final Path eventLogPath;
+    private final DataSize eventLogSize;
+    private final BidEventLog.FsyncPolicy fsync;
+    private final Duration fsyncInterval;
+    private final List<BidEventLog> laneLogs = new ArrayList<>();
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final AtomicLong lastBidId = new AtomicLong();
+    // Per lane: result of the last bid it logged
+    private final AtomicReferenceArray<CompletableFuture<?>> lastWrites;
+
+    private Thread worker;
+    private volatile boolean running;
+
+    public BidWriter(
+            AuctionPlayerRepository auctionPlayerRepository,
+            TeamRepository teamRepository,
+            BidRepository bidRepository,
+            PlatformTransactionManager transactionManager,
+            BidEngine bidEngine,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${auction.bidding.writer-batch-size:256}") int batchSize,
+            @Value("${auction.bidding.writer-max-attempts:5}") int maxAttempts,
+            @Value("${auction.bidding.writer-retry-backoff:1s}") Duration retryBackoff,
+            @Value("${auction.bidding.event-log.path:data/bid-events.log}") Path eventLogPath,
+            @Value("${auction.bidding.event-log.size:64MB}") DataSize eventLogSize,
+            @Value("${auction.bidding.event-log.fsync:interval}") BidEventLog.FsyncPolicy fsync,
+            @Value("${auction.bidding.event-log.fsync-interval:200ms}") Duration fsyncInterval
+    ) {
+        this.auctionPlayerRepository = auctionPlayerRepository;
+        this.teamRepository = teamRepository;
+        this.bidRepository = bidRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bidEngine = bidEngine;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.eventLogPath = eventLogPath;
+        this.eventLogSize = eventLogSize;
+        this.fsync = fsync;
+        this.fsyncInterval = fsyncInterval;
+
+        for (int lane = 0; lane < bidEngine.laneCount(); lane++) {
+            laneLogs.add(eventLog(lanePath(eventLogPath, lane)));
+        }
+        this.lastWrites = new AtomicReferenceArray<>(laneLogs.size());
+        for (int lane = 0; lane < laneLogs.size(); lane++) {
+            lastWrites.set(lane, CompletableFuture.completedFuture(null));
+        }
+    }
+
+    /**
+     * Log file of a lane: bid-events.log becomes bid-events-3.log for lane 3.
+     */
+    static Path lanePath(Path path, int lane) {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String laneName = dot > 0
+                ? name.substring(0, dot) + "-" + lane + name.substring(dot)
+                : name + "-" + lane;
+        return path.resolveSibling(laneName);
+    }
+
+    /**
+     * Log an accepted bid and queue it for persistence.
+     * Must be called from the auction's lane thread so log order matches acceptance order,
+     * before the engine state moves: if the bid cannot be logged, nothing changed.
+     * accepted.result() completes once the bid is stored (or rejected on persist).
+     *
+     * @return id of the bid, also the id it is stored under
+     */
+    public long write(Long auctionId, AcceptedBid accepted) {
+        int lane = bidEngine.laneOf(auctionId);
+        BidEventLog eventLog = laneLogs.get(lane);
+
+        // An id lost to a failed append is a gap, never a duplicate
+        long id = lastBidId.incrementAndGet();
+        long end;
+        try {
+            end = eventLog.append(id, accepted);
+        } catch (IllegalStateException | ArithmeticException ex) {
+            log.warn("Could not log accepted bid: {}", ex.getMessage());
+            throw new DomainException("Bid could not be recorded, please retry");
+        }
+        queue.add(new Logged(eventLog, new BidEventLog.Entry(id, end, accepted)));
+        lastWrites.set(lane, accepted.result());
+        return id;
+    }
+
+    /**
+     * Completes once every bid logged so far is stored (or was rejected on persist).
+     */
+    public CompletableFuture<?> lastWrite() {
+        CompletableFuture<?>[] writes = new CompletableFuture<?>[lastWrites.length()];
+        for (int lane = 0; lane < writes.length; lane++) {
+            writes[lane] = lastWrites.get(lane);
+        }
+        return CompletableFuture.allOf(writes);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        for (BidEventLog eventLog : laneLogs) {
+            eventLog.open();
+        }
+        replay();
+
+        running = true;
+        worker = new Thread(this::run, "bid-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stop accepting new work and flush whatever is still queued.
+     * Anything that cannot be stored stays in the log for the next start.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        for (BidEventLog eventLog : laneLogs) {
+            eventLog.close();
+        }
+    }
+
+    /**
+     * Store the bids the previous run logged but did not drain,
+     * before the engine loads any AuctionPlayer from the database.
+     */
+    private void replay() throws IOException {
+        List<BidEventLog> leftover = new ArrayList<>();
+        if (Files.exists(eventLogPath)) {
+            leftover.add(eventLog(eventLogPath));
+        }
+        for (int lane = laneLogs.size(); Files.exists(lanePath(eventLogPath, lane)); lane++) {
+            leftover.add(eventLog(lanePath(eventLogPath, lane)));
+        }
+        for (BidEventLog eventLog : leftover) {
+            eventLog.open();
+        }
+
+        List<BidEventLog> logs = new ArrayList<>(laneLogs);
+        logs.addAll(leftover);
+
+        long storedId = Objects.requireNonNullElse(bidRepository.findMaxId(), 0L);
+        lastBidId.set(Math.max(storedId, logs.stream().mapToLong(BidEventLog::lastId).max().orElse(0)));
+
+        List<BidEventLog.Entry> undrained = logs.stream()
+                .flatMap(eventLog -> eventLog.undrained().stream())
+                .sorted(Comparator.comparingLong(BidEventLog.Entry::id))
+                .toList();
+        if (!undrained.isEmpty()) {
+            log.info("Replaying {} bids from the bid event logs", undrained.size());
+        }
+
+        // Lanes commit out of id order, so a stored higher id says nothing about lower ones
+        for (int from = 0; from < undrained.size(); from += batchSize) {
+            List<BidEventLog.Entry> logged = undrained.subList(from, Math.min(from + batchSize, undrained.size()));
+            Set<Long> stored = bidRepository.findIdsByIdIn(logged.stream().map(BidEventLog.Entry::id).toList());
+            List<BidEventLog.Entry> missing = logged.stream()
+                    .filter(entry -> !stored.contains(entry.id()))
+                    .toList();
+            if (store(missing).size() < missing.size()) {
+                throw new IllegalStateException("Could not replay the bid event logs");
+            }
+        }
+
+        for (BidEventLog eventLog : laneLogs) {
+            List<BidEventLog.Entry> entries = eventLog.undrained();
+            if (!entries.isEmpty()) {
+                eventLog.markDrained(entries.get(entries.size() - 1).end());
+            }
+        }
+        for (BidEventLog eventLog : leftover) {
+            eventLog.close();
+            Files.delete(eventLog.path());
+            log.info("Replayed and removed bid event log {}", eventLog.path());
+        }
+    }
+
+    private void run() {
+        List<Logged> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                laneLogs.forEach(BidEventLog::sync);
+
+                Logged first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Logged> batch) throws InterruptedException {
+        int done = 0;
+        while (done < batch.size()) {
+            List<Logged> rest = batch.subList(done, batch.size());
+            List<Outcome> outcomes = store(rest.stream().map(Logged::entry).toList());
+            if (outcomes.isEmpty()) {
+                if (!running) {
+                    return; // still in the logs, replayed on next start
+                }
+                Thread.sleep(retryBackoffMillis);
+                continue;
+            }
+            finish(rest.subList(0, outcomes.size()), outcomes);
+            done += outcomes.size();
+        }
+    }
+
+    private void finish(List<Logged> handled, List<Outcome> outcomes) {
+        // Each lane appends in queue order, so its last entry here is the furthest one
+        Map<BidEventLog, Long> drained = new HashMap<>();
+        handled.forEach(logged -> drained.put(logged.eventLog(), logged.entry().end()));
+        drained.forEach(BidEventLog::markDrained);
+
+        publish(outcomes);
+        for (int i = 0; i < handled.size(); i++) {
+            BidEventLog.Entry entry = handled.get(i).entry();
+            report(entry, outcomes.get(i));
+            outcomes.get(i).complete(entry.bid().result());
+        }
+    }
+
+    /**
+     * The bidder was told the bid was accepted as the engine saw it: record where storing it differed.
+     */
+    private void report(BidEventLog.Entry entry, Outcome outcome) {
+        AcceptedBid accepted = entry.bid();
+        if (outcome.bid() == null) {
+            log.warn("Acknowledged bid {} (team {}, player {}) was rejected when stored: {}",
+                    entry.id(), accepted.teamId(), accepted.auctionPlayerId(), outcome.rejection().getMessage());
+            revised("rejected", outcome.rejection().getReason().tag());
+        } else if (outcome.bid().getAmount().compareTo(accepted.amount()) != 0) {
+            log.info("Acknowledged bid {} (team {}, player {}) lost a race and was stored at {} instead of {}",
+                    entry.id(), accepted.teamId(), accepted.auctionPlayerId(), outcome.bid().getAmount(), accepted.amount());
+            revised("repriced", "lost_race");
+        }
+    }
+
+    private void revised(String outcome, String reason) {
+        Counter.builder("auction.bids.revised")
+                .description("Acknowledged bids that were stored re-priced or rejected")
+                .tag("outcome", outcome)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Persist a batch. If the database refuses it for anything but a
+     * transient failure, the bids are stored one at a time instead, so one
+     * bad bid cannot hold back the others: a bid that fails on its own is
+     * rejected (and its player reloaded from the database).
+     *
+     * @return outcomes of the leading bids that were handled: all of them,
+     *         or fewer (possibly none) if the database is unavailable
+     */
+    private List<Outcome> store(List<BidEventLog.Entry> batch) {
+        try {
+            return storeTogether(batch);
+        } catch (RuntimeException ex) {
+            if (isTransient(ex)) {
+                log.error("Failed to persist batch of {} bids, will retry", batch.size(), ex);
+                return List.of();
+            }
+            log.warn("Batch of {} bids refused, storing them one at a time", batch.size(), ex);
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        for (BidEventLog.Entry entry : batch) {
+            try {
+                outcomes.addAll(storeTogether(List.of(entry)));
+            } catch (RuntimeException ex) {
+                if (isTransient(ex)) {
+                    log.error("Failed to persist bid {}, will retry", entry.id(), ex);
+                    break;
+                }
+                log.error("Rejecting bid {}: the database refused it", entry.id(), ex);
+                outcomes.add(unstorable(entry));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * The engine already accepted the bid: put the stored row back in its place.
+     */
+    private Outcome unstorable(BidEventLog.Entry entry) {
+        Long auctionPlayerId = entry.bid().auctionPlayerId();
+        AuctionPlayer current = null;
+        try {
+            current = auctionPlayerRepository.findById(auctionPlayerId).orElse(null);
+        } catch (RuntimeException ex) {
+            log.warn("Could not reload auction player {} after a refused bid", auctionPlayerId, ex);
+        }
+
+        if (current != null) {
+            bidEngine.reload(current);
+        } else {
+            bidEngine.evict(auctionPlayerId);
+        }
+        return Outcome.rejected(new DomainException("Bid could not be stored"), current);
+    }
+
+    /**
+     * Failures that say nothing about the bids themselves: the same batch may succeed later.
+     */
+    private static boolean isTransient(RuntimeException ex) {
+        return ex instanceof TransientDataAccessException
+                || ex instanceof RecoverableDataAccessException
+                || ex instanceof DataAccessResourceFailureException
+                || ex instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * Persist bids in one transaction, retrying (bounded) on concurrent updates.
+     */
+    private List<Outcome> storeTogether(List<BidEventLog.Entry> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Map<Long, AuctionPlayer> diverged = new HashMap<>(); // null: row is gone
+                List<Outcome> outcomes = transactionTemplate.execute(status -> persist(batch, diverged));
+
+                // In-memory state no longer matches the database: replace it with what was stored
+                diverged.forEach((auctionPlayerId, stored) -> {
+                    if (stored != null) {
+                        bidEngine.reload(stored);
+                    } else {
+                        bidEngine.evict(auctionPlayerId);
+                    }
+                });
+                return outcomes;
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex; // transient: retried after the backoff
+                }
+                log.debug("Concurrent update while persisting bids, retrying (attempt {})", attempt);
+            }
+        }
+    }
+
+    private void publish(List<Outcome> outcomes) {
+        Map<Long, AuctionPlayer> changed = new LinkedHashMap<>();
+
+        for (Outcome outcome : outcomes) {
+            if (outcome.bid() != null) {
+                eventPublisher.publishEvent(new BidPlacedEvent(outcome.bid()));
+                changed.put(outcome.bid().getAuctionPlayer().getId(), outcome.bid().getAuctionPlayer());
+            } else if (outcome.current() != null) {
+                changed.put(outcome.current().getId(), outcome.current());
+            }
+        }
+
+        changed.values().forEach(ap -> eventPublisher.publishEvent(new AuctionPlayerChangedEvent(ap)));
+    }
+
+    private List<Outcome> persist(List<BidEventLog.Entry> batch, Map<Long, AuctionPlayer> diverged) {
+        Set<Long> auctionPlayerIds = new LinkedHashSet<>();
+        Set<Long> teamIds = new LinkedHashSet<>();
+        for (BidEventLog.Entry entry : batch) {
+            auctionPlayerIds.add(entry.bid().auctionPlayerId());
+            teamIds.add(entry.bid().teamId());
+        }
+
+        Map<Long, AuctionPlayer> auctionPlayers = new HashMap<>();
+        auctionPlayerRepository.findAllById(auctionPlayerIds)
+                .forEach(ap -> auctionPlayers.put(ap.getId(), ap));
+
+        Map<Long, Team> teams = new HashMap<>();
+        teamRepository.findByIdIn(teamIds)
+                .forEach(team -> teams.put(team.getId(), team));
+
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        List<Bid> bids = new ArrayList<>(batch.size());
+
+        // Batch is in acceptance order, so the last bid per player wins
+        for (BidEventLog.Entry entry : batch) {
+            AuctionPlayer auctionPlayer = auctionPlayers.get(entry.bid().auctionPlayerId());
+            Team team = teams.get(entry.bid().teamId());
+
+            Outcome outcome = apply(entry, auctionPlayer, team, diverged);
+            if (outcome.bid() != null) {
+                bids.add(outcome.bid());
+            }
+            outcomes.add(outcome);
+        }
+
+        bidRepository.saveAll(bids);
+        return outcomes;
+    }
+
+    private Outcome apply(
+            BidEventLog.Entry entry,
+            AuctionPlayer auctionPlayer,
+            Team team,
+            Map<Long, AuctionPlayer> diverged
+    ) {
+        AcceptedBid accepted = entry.bid();
+
+        if (auctionPlayer == null || team == null || auctionPlayer.getStatus() != AuctionPlayerStatus.LIVE) {
+            diverged.put(accepted.auctionPlayerId(), auctionPlayer);
+            return Outcome.rejected(new DomainException(DomainException.Reason.NOT_LIVE, "Bidding is not open for this player"), null);
+        }
+
+        boolean inSync = auctionPlayer.getCurrentPrice().compareTo(accepted.previousPrice()) == 0
+                && Objects.equals(team.getVersion(), accepted.teamVersion());
+
+        BigDecimal amount = accepted.amount();
+        if (!inSync) {
+            // Someone else changed the row: re-validate against what is there now.
+            // Same rule as on the lane: a lost race for the price this bid was placed
+            // against is re-priced, a row that moved further rejects the stale bid.
+            diverged.put(accepted.auctionPlayerId(), auctionPlayer);
+            bidEngine.cacheTeam(team);
+            try {
+                amount = BidRules.resolveAmount(
+                        auctionPlayer.getCurrentPrice(),
+                        accepted.previousPrice(),
+                        leadingTeamId(auctionPlayer),
+                        team.getId(),
+                        team.getPurse(),
+                        accepted.amount()
+                );
+            } catch (DomainException ex) {
+                // Bidders missed the change, so announce the row as it stands
+                return Outcome.rejected(ex, auctionPlayer);
+            }
+        }
+
+        auctionPlayer.updateCurrentBid(team, amount);
+        auctionPlayer.resetTimer(accepted.timerEndAt());
+        return Outcome.stored(new Bid(entry.id(), auctionPlayer, team, amount, accepted.acceptedAt()));
+    }
+
+    private BidEventLog eventLog(Path path) {
+        return new BidEventLog(path, eventLogSize, fsync, fsyncInterval);
+    }
+
+    private static Long leadingTeamId(AuctionPlayer auctionPlayer) {
+        return auctionPlayer.getCurrentHighestBidTeam() != null
+                ? auctionPlayer.getCurrentHighestBidTeam().getId()
+                : null;
+    }
+
+    /**
+     * A queued bid and the lane log it was appended to.
+     */
+    private record Logged(BidEventLog eventLog, BidEventLog.Entry entry) {
+    }
+
+    /**
+     * Result of persisting one accepted bid: either the stored Bid or the reason it was rejected
+     * (with the row to announce, when it was changed outside the engine).
+     */
+    private record Outcome(Bid bid, DomainException rejection, AuctionPlayer current) {
+
+        static Outcome stored(Bid bid) {
+            return new Outcome(bid, null, null);
+        }
+
+        static Outcome rejected(DomainException rejection, AuctionPlayer current) {
+            return new Outcome(null, rejection, current);
+        }
+
+        void complete(CompletableFuture<Bid> result) {
+            if (bid != null) {
+                result.complete(bid);
+            } else {
+                result.completeExceptionally(rejection);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.auction.backend.engine;
+
+import com.auction.backend.domain.AuctionPlayer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-memory bidding state of one LIVE AuctionPlayer.
+ *
+ * This is the authoritative current price / leading team while the player
+ * is under the hammer. The database row is brought up to date asynchronously
+ * by BidWriter.
+ *
+ * Threading: only ever mutated from the owning auction's lane thread
+ * (see BidEngine), so no locking is needed. The sequence is volatile so
+ * request threads can read which state they observed before submitting;
+ * timerEndAt is volatile so queries can show the live deadline.
+ */
+public class LiveAuctionPlayer {
+
+    private final Long auctionPlayerId;
+    private final Long auctionId;
+
+    private BigDecimal currentPrice;
+    private BigDecimal previousPrice;
+    private Long leadingTeamId;
+    private volatile long sequence;
+
+    private volatile Instant timerEndAt;
+    private AuctionTimerWheel.Timeout timeout;
+    private volatile boolean closed;
+
+    // Completes once every bid accepted so far has been persisted
+    private CompletableFuture<?> lastWrite = CompletableFuture.completedFuture(null);
+
+    LiveAuctionPlayer(AuctionPlayer auctionPlayer, Instant timerEndAt) {
+        this.auctionPlayerId = auctionPlayer.getId();
+        this.auctionId = auctionPlayer.getAuction().getId();
+        this.currentPrice = auctionPlayer.getCurrentPrice();
+        this.leadingTeamId = auctionPlayer.getCurrentHighestBidTeam() != null
+                ? auctionPlayer.getCurrentHighestBidTeam().getId()
+                : null;
+        this.sequence = 0;
+        this.timerEndAt = timerEndAt;
+    }
+
+    public Long getAuctionPlayerId() {
+        return auctionPlayerId;
+    }
+
+    public Long getAuctionId() {
+        return auctionId;
+    }
+
+    public BigDecimal getCurrentPrice() {
+        return currentPrice;
+    }
+
+    /**
+     * Price the current leading bid was placed against (null before the first bid).
+     */
+    public BigDecimal getPreviousPrice() {
+        return previousPrice;
+    }
+
+    public Long getLeadingTeamId() {
+        return leadingTeamId;
+    }
+
+    /**
+     * Number of bids accepted since this state was loaded.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Instant getTimerEndAt() {
+        return timerEndAt;
+    }
+
+    /**
+     * Bids are accepted strictly before timerEndAt, and never once closed.
+     */
+    public boolean isOpenAt(Instant now) {
+        return !closed && now.isBefore(timerEndAt);
+    }
+
+    /* ---- Domain behavior ---- */
+
+    /**
+     * Record an already validated bid as the new leading bid.
+     *
+     * @return sequence number assigned to the bid
+     */
+    public long accept(Long teamId, BigDecimal amount) {
+        this.previousPrice = currentPrice;
+        this.leadingTeamId = teamId;
+        this.currentPrice = amount;
+        return ++sequence;
+    }
+
+    /**
+     * Remember the persistence of the latest accepted bid, so closing can wait for it.
+     */
+    public void trackWrite(CompletableFuture<?> write) {
+        this.lastWrite = write;
+    }
+
+    /* ---- Timer (managed by BidEngine on the lane thread) ---- */
+
+    CompletableFuture<?> getLastWrite() {
+        return lastWrite;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        this.closed = true;
+    }
+
+    void arm(Instant timerEndAt, AuctionTimerWheel.Timeout timeout) {
+        if (this.timeout != null) {
+            this.timeout.cancel();
+        }
+        this.timerEndAt = timerEndAt;
+        this.timeout = timeout;
+    }
+}
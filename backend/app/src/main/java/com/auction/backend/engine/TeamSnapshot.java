@@ -0,0 +1,18 @@
+package com.auction.backend.engine;
+
+import com.auction.backend.domain.Team;
+
+import java.math.BigDecimal;
+
+/**
+ * What the bid engine needs of a team, copied out of the entity: lane and
+ * request threads share it, so it must not change under them.
+ *
+ * @param version version the purse was read at; BidWriter re-checks it on persist
+ */
+public record TeamSnapshot(Long id, Long version, BigDecimal purse) {
+
+    public static TeamSnapshot of(Team team) {
+        return new TeamSnapshot(team.getId(), team.getVersion(), team.getPurse());
+    }
+}
@@ -0,0 +1,9 @@
+package com.auction.backend.event;
+
+import com.auction.backend.domain.AuctionPlayer;
+
+/**
+ * Published when an AuctionPlayer is added, started or its leading bid moves.
+ */
+public record AuctionPlayerChangedEvent(AuctionPlayer auctionPlayer) {
+}
@@ -0,0 +1,9 @@
+package com.auction.backend.event;
+
+import com.auction.backend.domain.Auction;
+
+/**
+ * Published when an Auction is created or changes status.
+ */
+public record AuctionStateChangedEvent(Auction auction) {
+}
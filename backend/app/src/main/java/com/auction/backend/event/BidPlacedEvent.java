@@ -0,0 +1,9 @@
+package com.auction.backend.event;
+
+import com.auction.backend.domain.Bid;
+
+/**
+ * Published once an accepted bid has been committed.
+ */
+public record BidPlacedEvent(Bid bid) {
+}
@@ -0,0 +1,8 @@
+package com.auction.backend.event;
+
+/**
+ * Published by the bid engine when an AuctionPlayer's timer has run out
+ * and every bid accepted before it has been persisted.
+ */
+public record BiddingClosedEvent(Long auctionPlayerId) {
+}
@@ -0,0 +1,7 @@
+package com.auction.backend.event;
+
+/**
+ * Published when a team is created or its purse / squad limits change.
+ */
+public record TeamChangedEvent(Long teamId) {
+}
@@ -1,7 +1,37 @@
 package com.auction.backend.exception;
 
 public class DomainException extends RuntimeException {
+
+    /**
+     * Why a request was refused, for metrics (the message can carry amounts).
+     */
+    public enum Reason {
+        INVALID_AMOUNT,
+        INCREMENT_TOO_SMALL,
+        INSUFFICIENT_PURSE,
+        NOT_LIVE,
+        TIMER_EXPIRED,
+        NOT_FOUND,
+        OVERLOADED,
+        OTHER;
+
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Reason reason;
+
     public DomainException(String message){
+        this(Reason.OTHER, message);
+    }
+
+    public DomainException(Reason reason, String message){
         super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
     }
 }
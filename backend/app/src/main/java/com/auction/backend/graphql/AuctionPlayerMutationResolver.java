@@ -2,6 +2,7 @@ package com.auction.backend.graphql;
 
 import com.auction.backend.domain.AuctionPlayer;
 import com.auction.backend.graphql.input.AddPlayerToAuctionInput;
+import com.auction.backend.graphql.input.AuctionPlayerEntryInput;
 import com.auction.backend.service.AuctionPlayerService;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
@@ -9,6 +10,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Controller
 public class AuctionPlayerMutationResolver {
@@ -31,6 +33,23 @@ public class AuctionPlayerMutationResolver {
         );
     }
 
+    @MutationMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<AuctionPlayer> addPlayersToAuction(
+            @Argument Long auctionId,
+            @Argument List<AuctionPlayerEntryInput> entries
+    ) {
+        return auctionPlayerService.addPlayersToAuction(
+                auctionId,
+                entries.stream()
+                        .map(entry -> new AuctionPlayerService.NewAuctionPlayer(
+                                entry.getPlayerId(),
+                                BigDecimal.valueOf(entry.getBasePrice())
+                        ))
+                        .toList()
+        );
+    }
+
     @MutationMapping
     @PreAuthorize("hasRole('ADMIN')")
     public AuctionPlayer startAuctionPlayer(@Argument Long auctionPlayerId) {
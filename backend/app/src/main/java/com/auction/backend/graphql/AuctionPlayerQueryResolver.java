@@ -1,24 +1,92 @@
 package com.auction.backend.graphql;
 
 import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.Team;
+import com.auction.backend.engine.BidEngine;
+import com.auction.backend.engine.LiveAuctionPlayer;
 import com.auction.backend.repository.AuctionPlayerRepository;
+import com.auction.backend.repository.PlayerRepository;
+import com.auction.backend.repository.TeamRepository;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.stereotype.Controller;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 public class AuctionPlayerQueryResolver {
 
     private final AuctionPlayerRepository auctionPlayerRepository;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final BidEngine bidEngine;
+    private final Pagination pagination;
 
-    public AuctionPlayerQueryResolver(AuctionPlayerRepository auctionPlayerRepository) {
+    public AuctionPlayerQueryResolver(
+            AuctionPlayerRepository auctionPlayerRepository,
+            PlayerRepository playerRepository,
+            TeamRepository teamRepository,
+            BidEngine bidEngine,
+            Pagination pagination
+    ) {
         this.auctionPlayerRepository = auctionPlayerRepository;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.bidEngine = bidEngine;
+        this.pagination = pagination;
     }
 
     @QueryMapping
     public List<AuctionPlayer> auctionPlayers(@Argument Long auctionId) {
         return auctionPlayerRepository.findByAuctionId(auctionId);
     }
+
+    @QueryMapping
+    public Window<AuctionPlayer> auctionPlayersConnection(@Argument Long auctionId, ScrollSubrange subrange) {
+        return auctionPlayerRepository.findByAuctionIdOrderByIdAsc(
+                auctionId, pagination.position(subrange), pagination.limit(subrange)
+        );
+    }
+
+    @QueryMapping
+    public AuctionPlayer currentPlayer(@Argument Long auctionId) {
+        return auctionPlayerRepository.findCurrentByAuctionId(auctionId).orElse(null);
+    }
+
+    /**
+     * The engine holds the authoritative deadline while a player is LIVE;
+     * the column can lag behind by the writer's latency.
+     */
+    @SchemaMapping(typeName = "AuctionPlayer")
+    public Instant timerEndAt(AuctionPlayer auctionPlayer) {
+        LiveAuctionPlayer live = bidEngine.find(auctionPlayer.getId());
+        return live != null ? live.getTimerEndAt() : auctionPlayer.getTimerEndAt();
+    }
+
+    /**
+     * Players of every AuctionPlayer in the selection, in one query.
+     */
+    @BatchMapping(typeName = "AuctionPlayer")
+    public Map<AuctionPlayer, Player> player(List<AuctionPlayer> auctionPlayers) {
+        return BatchLoading.associate(
+                auctionPlayers, AuctionPlayer::getPlayer, Player::getId, playerRepository::findAllById
+        );
+    }
+
+    /**
+     * Leading teams of every AuctionPlayer in the selection, in one query.
+     */
+    @BatchMapping(typeName = "AuctionPlayer")
+    public Map<AuctionPlayer, Team> currentHighestBidTeam(List<AuctionPlayer> auctionPlayers) {
+        return BatchLoading.associate(
+                auctionPlayers, AuctionPlayer::getCurrentHighestBidTeam, Team::getId, teamRepository::findAllById
+        );
+    }
 }
@@ -0,0 +1,21 @@
+package com.auction.backend.graphql;
+
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+@Controller
+public class AuctionPlayerSubscriptionResolver {
+
+    private final LiveUpdatePublisher liveUpdatePublisher;
+
+    public AuctionPlayerSubscriptionResolver(LiveUpdatePublisher liveUpdatePublisher) {
+        this.liveUpdatePublisher = liveUpdatePublisher;
+    }
+
+    @SubscriptionMapping
+    public Flux<AuctionPlayerUpdate> auctionPlayerChanged(@Argument Long auctionId) {
+        return liveUpdatePublisher.auctionPlayers(auctionId);
+    }
+}
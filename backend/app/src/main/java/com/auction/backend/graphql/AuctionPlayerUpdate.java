@@ -0,0 +1,24 @@
+package com.auction.backend.graphql;
+
+import com.auction.backend.domain.AuctionPlayerStatus;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.Team;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * auctionPlayerChanged payload: the row with its player and leading team
+ * already loaded, and the engine's deadline while it is LIVE.
+ * Built once per change by LiveUpdatePublisher and shared by every subscriber.
+ */
+public record AuctionPlayerUpdate(
+        Long id,
+        Player player,
+        BigDecimal basePrice,
+        BigDecimal currentPrice,
+        AuctionPlayerStatus status,
+        Team currentHighestBidTeam,
+        Instant timerEndAt
+) {
+}
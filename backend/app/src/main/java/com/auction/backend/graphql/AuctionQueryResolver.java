@@ -1,7 +1,10 @@
 package com.auction.backend.graphql;
 
 import com.auction.backend.domain.Auction;
+import com.auction.backend.readmodel.AuctionState;
+import com.auction.backend.readmodel.AuctionStateStore;
 import com.auction.backend.repository.AuctionRepository;
+import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
@@ -11,13 +14,23 @@ import java.util.List;
 public class AuctionQueryResolver {
 
     private final AuctionRepository auctionRepository;
+    private final AuctionStateStore auctionStates;
 
-    public AuctionQueryResolver(AuctionRepository auctionRepository) {
+    public AuctionQueryResolver(AuctionRepository auctionRepository, AuctionStateStore auctionStates) {
         this.auctionRepository = auctionRepository;
+        this.auctionStates = auctionStates;
     }
 
     @QueryMapping
     public List<Auction> auctions() {
         return auctionRepository.findAll();
     }
+
+    /**
+     * Served from the in-memory read model: no database access.
+     */
+    @QueryMapping
+    public AuctionState auctionState(@Argument Long auctionId) {
+        return auctionStates.find(auctionId);
+    }
 }
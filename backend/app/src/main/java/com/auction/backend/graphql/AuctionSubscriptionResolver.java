@@ -0,0 +1,22 @@
+package com.auction.backend.graphql;
+
+import com.auction.backend.domain.Auction;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+@Controller
+public class AuctionSubscriptionResolver {
+
+    private final LiveUpdatePublisher liveUpdatePublisher;
+
+    public AuctionSubscriptionResolver(LiveUpdatePublisher liveUpdatePublisher) {
+        this.liveUpdatePublisher = liveUpdatePublisher;
+    }
+
+    @SubscriptionMapping
+    public Flux<Auction> auctionStateChanged(@Argument Long auctionId) {
+        return liveUpdatePublisher.auctions(auctionId);
+    }
+}
@@ -0,0 +1,62 @@
+package com.auction.backend.graphql;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Helper for @BatchMapping resolvers of to-one associations.
+ *
+ * Reads the referenced ids (a lazy reference yields its id without a query),
+ * loads all referenced entities with one IN query and maps each source back
+ * to its entity. Sources without a reference are left out (resolved as null).
+ * associateById does the same for sources that hold the id itself.
+ */
+final class BatchLoading {
+
+    private BatchLoading() {
+    }
+
+    static <S, T> Map<S, T> associate(
+            Collection<S> sources,
+            Function<S, T> reference,
+            Function<T, Long> idOf,
+            Function<Set<Long>, List<T>> loadAll
+    ) {
+        return associateById(sources, source -> {
+            T target = reference.apply(source);
+            return target != null ? idOf.apply(target) : null;
+        }, idOf, loadAll);
+    }
+
+    static <S, T> Map<S, T> associateById(
+            Collection<S> sources,
+            Function<S, Long> referencedId,
+            Function<T, Long> idOf,
+            Function<Set<Long>, List<T>> loadAll
+    ) {
+        Map<S, Long> idsBySource = new LinkedHashMap<>();
+        for (S source : sources) {
+            Long id = referencedId.apply(source);
+            if (id != null) {
+                idsBySource.put(source, id);
+            }
+        }
+
+        Map<Long, T> loaded = new HashMap<>();
+        if (!idsBySource.isEmpty()) {
+            for (T target : loadAll.apply(new LinkedHashSet<>(idsBySource.values()))) {
+                loaded.put(idOf.apply(target), target);
+            }
+        }
+
+        Map<S, T> result = new LinkedHashMap<>();
+        idsBySource.forEach((source, id) -> result.put(source, loaded.get(id)));
+        return result;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class BidMutationResolver {
@@ -21,7 +22,7 @@ public class BidMutationResolver {
 
     @MutationMapping
     @PreAuthorize("hasRole('TEAM_USER')")
-    public Bid placeBid(@Argument PlaceBidInput input) {
+    public CompletableFuture<Bid> placeBid(@Argument PlaceBidInput input) {
         return bidService.placeBid(
                 input.getAuctionPlayerId(),
                 input.getTeamId(),
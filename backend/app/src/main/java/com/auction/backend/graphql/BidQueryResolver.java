@@ -1,24 +1,55 @@
 package com.auction.backend.graphql;
 
 import com.auction.backend.domain.Bid;
+import com.auction.backend.domain.Team;
 import com.auction.backend.repository.BidRepository;
+import com.auction.backend.repository.TeamRepository;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
+import java.util.Map;
 
 @Controller
 public class BidQueryResolver {
 
     private final BidRepository bidRepository;
+    private final TeamRepository teamRepository;
+    private final Pagination pagination;
 
-    public BidQueryResolver(BidRepository bidRepository) {
+    public BidQueryResolver(BidRepository bidRepository, TeamRepository teamRepository, Pagination pagination) {
         this.bidRepository = bidRepository;
+        this.teamRepository = teamRepository;
+        this.pagination = pagination;
     }
 
+    /**
+     * Whole history, or only the bids after sinceBidId (polling clients).
+     */
     @QueryMapping
-    public List<Bid> bids(@Argument Long auctionPlayerId) {
+    public List<Bid> bids(@Argument Long auctionPlayerId, @Argument Long sinceBidId) {
+        if (sinceBidId != null) {
+            return bidRepository.findByAuctionPlayerIdAndIdGreaterThanOrderByCreatedAtAscIdAsc(auctionPlayerId, sinceBidId);
+        }
         return bidRepository.findByAuctionPlayerIdOrderByCreatedAtAsc(auctionPlayerId);
     }
+
+    @QueryMapping
+    public Window<Bid> bidsConnection(@Argument Long auctionPlayerId, ScrollSubrange subrange) {
+        return bidRepository.findByAuctionPlayerIdOrderByCreatedAtAscIdAsc(
+                auctionPlayerId, pagination.position(subrange), pagination.limit(subrange)
+        );
+    }
+
+    /**
+     * Teams of every Bid in the selection, in one query.
+     */
+    @BatchMapping(typeName = "Bid")
+    public Map<Bid, Team> team(List<Bid> bids) {
+        return BatchLoading.associateById(bids, Bid::getTeamId, Team::getId, teamRepository::findAllById);
+    }
 }
@@ -0,0 +1,21 @@
+package com.auction.backend.graphql;
+
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+@Controller
+public class BidSubscriptionResolver {
+
+    private final LiveUpdatePublisher liveUpdatePublisher;
+
+    public BidSubscriptionResolver(LiveUpdatePublisher liveUpdatePublisher) {
+        this.liveUpdatePublisher = liveUpdatePublisher;
+    }
+
+    @SubscriptionMapping
+    public Flux<BidUpdate> bidPlaced(@Argument Long auctionPlayerId) {
+        return liveUpdatePublisher.bids(auctionPlayerId);
+    }
+}
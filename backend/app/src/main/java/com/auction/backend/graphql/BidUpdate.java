@@ -0,0 +1,13 @@
+package com.auction.backend.graphql;
+
+import com.auction.backend.domain.Team;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * bidPlaced payload: a stored bid with its team already loaded.
+ * Built once per bid by LiveUpdatePublisher and shared by every subscriber.
+ */
+public record BidUpdate(Long id, Long auctionPlayerId, Team team, BigDecimal amount, Instant createdAt) {
+}
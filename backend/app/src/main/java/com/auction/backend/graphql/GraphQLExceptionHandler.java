@@ -7,16 +7,19 @@ import graphql.GraphqlErrorBuilder;
 import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter {
 
     @Override
     protected GraphQLError resolveToSingleError(Throwable ex,
             graphql.schema.DataFetchingEnvironment env) {
-        if (ex instanceof DomainException) {
+        if (ex instanceof DomainException domainException) {
             return GraphqlErrorBuilder.newError(env)
                     .message(ex.getMessage())
                     .errorType(ErrorType.ValidationError)
+                    .extensions(Map.of("reason", domainException.getReason().tag()))
                     .build();
         }
         return null;
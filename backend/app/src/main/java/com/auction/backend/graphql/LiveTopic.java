@@ -0,0 +1,48 @@
+package com.auction.backend.graphql;
+
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Keyed multicast channel feeding GraphQL subscriptions.
+ *
+ * Each key (e.g. an auctionPlayerId) has one sink shared by all its
+ * subscribers, so an update is emitted once per key rather than filtered
+ * once per subscriber. Subscribers are best-effort: a slow one drops its
+ * oldest buffered updates instead of holding up the publisher. The value
+ * is only built when the key has subscribers, and the same instance goes
+ * to all of them.
+ */
+class LiveTopic<T> {
+
+    private static final int SUBSCRIBER_BUFFER = 256;
+
+    // Emits can come from several threads (bid writer, request threads)
+    private static final Sinks.EmitFailureHandler RETRY_ON_CONTENTION =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+
+    // One tiny sink per key ever subscribed to (bounded by players/auctions)
+    private final ConcurrentMap<Long, Sinks.Many<T>> sinks = new ConcurrentHashMap<>();
+
+    Flux<T> subscribe(Long key) {
+        return sink(key).asFlux()
+                .onBackpressureBuffer(SUBSCRIBER_BUFFER, dropped -> { }, BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    void publish(Long key, Supplier<T> value) {
+        Sinks.Many<T> sink = sinks.get(key);
+        if (sink != null && sink.currentSubscriberCount() > 0) {
+            sink.emitNext(value.get(), RETRY_ON_CONTENTION);
+        }
+    }
+
+    private Sinks.Many<T> sink(Long key) {
+        return sinks.computeIfAbsent(key, k -> Sinks.many().multicast().directBestEffort());
+    }
+}
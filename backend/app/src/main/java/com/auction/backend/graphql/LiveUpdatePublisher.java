@@ -0,0 +1,106 @@
+package com.auction.backend.graphql;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Bid;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.Team;
+import com.auction.backend.engine.BidEngine;
+import com.auction.backend.engine.LiveAuctionPlayer;
+import com.auction.backend.event.AuctionPlayerChangedEvent;
+import com.auction.backend.event.AuctionStateChangedEvent;
+import com.auction.backend.event.BidPlacedEvent;
+import com.auction.backend.repository.PlayerRepository;
+import com.auction.backend.repository.TeamRepository;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+
+/**
+ * Bridges committed domain events to GraphQL subscriptions.
+ *
+ * Listeners run after the publishing transaction commits (or immediately when
+ * published outside a transaction, as BidWriter does after its own commit),
+ * so subscribers never see a change that was rolled back.
+ *
+ * Payloads are resolved here, once per event and only if someone listens:
+ * BidUpdate and AuctionPlayerUpdate carry their team and player, so no
+ * batch loader runs per subscriber and the database load of an event does
+ * not grow with the audience. References still lazy (rows closed by
+ * AuctionPlayerService) are read by id.
+ */
+@Component
+public class LiveUpdatePublisher {
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final BidEngine bidEngine;
+
+    private final LiveTopic<BidUpdate> bidsByAuctionPlayer = new LiveTopic<>();
+    private final LiveTopic<AuctionPlayerUpdate> auctionPlayersByAuction = new LiveTopic<>();
+    private final LiveTopic<Auction> auctions = new LiveTopic<>();
+
+    public LiveUpdatePublisher(TeamRepository teamRepository, PlayerRepository playerRepository, BidEngine bidEngine) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.bidEngine = bidEngine;
+    }
+
+    public Flux<BidUpdate> bids(Long auctionPlayerId) {
+        return bidsByAuctionPlayer.subscribe(auctionPlayerId);
+    }
+
+    public Flux<AuctionPlayerUpdate> auctionPlayers(Long auctionId) {
+        return auctionPlayersByAuction.subscribe(auctionId);
+    }
+
+    public Flux<Auction> auctions(Long auctionId) {
+        return auctions.subscribe(auctionId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidPlaced(BidPlacedEvent event) {
+        Bid bid = event.bid();
+        bidsByAuctionPlayer.publish(bid.getAuctionPlayerId(), () -> new BidUpdate(
+                bid.getId(), bid.getAuctionPlayerId(), team(bid.getTeam()), bid.getAmount(), bid.getCreatedAt()
+        ));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionPlayerChanged(AuctionPlayerChangedEvent event) {
+        AuctionPlayer auctionPlayer = event.auctionPlayer();
+        auctionPlayersByAuction.publish(auctionPlayer.getAuction().getId(), () -> {
+            LiveAuctionPlayer live = bidEngine.find(auctionPlayer.getId());
+            return new AuctionPlayerUpdate(
+                    auctionPlayer.getId(),
+                    player(auctionPlayer.getPlayer()),
+                    auctionPlayer.getBasePrice(),
+                    auctionPlayer.getCurrentPrice(),
+                    auctionPlayer.getStatus(),
+                    team(auctionPlayer.getCurrentHighestBidTeam()),
+                    live != null ? live.getTimerEndAt() : auctionPlayer.getTimerEndAt()
+            );
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionStateChanged(AuctionStateChangedEvent event) {
+        Auction auction = event.auction();
+        auctions.publish(auction.getId(), () -> auction);
+    }
+
+    private Team team(Team team) {
+        if (team == null || Hibernate.isInitialized(team)) {
+            return team;
+        }
+        return teamRepository.findById(team.getId()).orElse(null);
+    }
+
+    private Player player(Player player) {
+        if (Hibernate.isInitialized(player)) {
+            return player;
+        }
+        return playerRepository.findById(player.getId()).orElseThrow();
+    }
+}
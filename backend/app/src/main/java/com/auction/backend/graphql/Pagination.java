@@ -0,0 +1,44 @@
+package com.auction.backend.graphql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.graphql.data.query.ScrollSubrange;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keyset (seek) pagination for the *Connection fields.
+ *
+ * Spring GraphQL turns first/after/last/before into a ScrollSubrange (cursors
+ * are the encoded keyset of an item) and a returned Window into a Relay
+ * connection; the Connection, Edge and PageInfo types are generated from
+ * the schema. Pages are capped so a client cannot ask for a whole table.
+ */
+@Component
+class Pagination {
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    Pagination(
+            @Value("${auction.pagination.default-size:50}") int defaultSize,
+            @Value("${auction.pagination.max-size:500}") int maxSize
+    ) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Keyset to seek from: after/before the cursor, or from either end.
+     */
+    ScrollPosition position(ScrollSubrange subrange) {
+        return subrange.position().orElseGet(() -> subrange.forward()
+                ? ScrollPosition.keyset()
+                : ScrollPosition.keyset().backward());
+    }
+
+    Limit limit(ScrollSubrange subrange) {
+        int size = subrange.count().orElse(defaultSize);
+        return Limit.of(Math.max(1, Math.min(size, maxSize)));
+    }
+}
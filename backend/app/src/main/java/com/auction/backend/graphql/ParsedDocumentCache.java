@@ -0,0 +1,67 @@
+package com.auction.backend.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Parsed and validated documents, keyed by query text and operation name.
+ *
+ * graphql-java's default provider parses and validates every request. The
+ * frontend only sends a handful of distinct documents (board and bid history
+ * polls, placeBid), so the same work is repeated on every poll.
+ *
+ * Key Design Decisions:
+ * - Bounded (cache-size entries, least recently/frequently used evicted):
+ *   clients can send arbitrary documents, which must not grow the heap.
+ * - Entries with parse or validation errors are not kept, so invalid
+ *   documents cannot fill the cache either.
+ * - Variables are not part of the key: they are coerced at execution, after
+ *   the document is taken from here.
+ * - Used for requests without a persisted query hash (PersistedQueries
+ *   keeps hashed documents in its own cache), or for all requests when
+ *   persisted queries are off.
+ *
+ * Cache statistics: cache.* tagged cache=graphqlDocuments (tag keys as for
+ * the Spring caches, see PersistedQueries).
+ */
+public class ParsedDocumentCache implements PreparsedDocumentProvider {
+
+    private record Key(String query, String operationName) {
+    }
+
+    private final Cache<Key, PreparsedDocumentEntry> entries;
+
+    public ParsedDocumentCache(long cacheSize, MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "graphqlDocuments",
+                Tags.of("cache.manager", "graphql", "name", "graphqlDocuments"));
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate
+    ) {
+        Key key = new Key(executionInput.getQuery(), executionInput.getOperationName());
+        PreparsedDocumentEntry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            entry = parseAndValidate.apply(executionInput);
+            if (!entry.hasErrors()) {
+                entries.put(key, entry);
+            }
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+}
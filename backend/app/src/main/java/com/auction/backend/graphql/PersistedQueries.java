@@ -0,0 +1,180 @@
+package com.auction.backend.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.io.Resource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Persisted queries: documents parsed and validated once, then looked up by
+ * their SHA-256 hash (Apollo protocol: extensions.persistedQuery.sha256Hash).
+ *
+ * Modes:
+ * - AUTOMATIC: a client sends the hash alone; on PersistedQueryNotFound it
+ *   retries once with hash and document, which registers the document
+ *   (the hash must match it). Later requests skip parsing and validation.
+ * - ALLOW_LIST: only the operations of the manifest (Apollo persisted query
+ *   manifest, generated from the frontend) run, sent by hash or in full.
+ *   Anything else is refused without being parsed.
+ * - OFF: not installed.
+ *
+ * Documents are cached by hash (bounded); entries with parse or validation
+ * errors are not kept. Requests without a hash in AUTOMATIC mode go to the
+ * unhashed provider (ParsedDocumentCache, or plain parsing when that is off).
+ * Cache statistics: cache.* tagged cache=persistedQueries, with the same
+ * tag keys as the Spring caches (Prometheus drops a meter whose tag keys
+ * differ from an existing one of the same name).
+ */
+public class PersistedQueries extends ApolloPersistedQuerySupport {
+
+    public enum Mode { AUTOMATIC, ALLOW_LIST, OFF }
+
+    private final DocumentCache documents;
+    private final PreparsedDocumentProvider unhashed;
+
+    public PersistedQueries(
+            Mode mode,
+            Resource manifest,
+            long cacheSize,
+            PreparsedDocumentProvider unhashed,
+            MeterRegistry meterRegistry
+    ) {
+        this(new DocumentCache(mode == Mode.ALLOW_LIST ? readManifest(manifest) : null, cacheSize, meterRegistry), unhashed);
+    }
+
+    private PersistedQueries(DocumentCache documents, PreparsedDocumentProvider unhashed) {
+        super(documents);
+        this.documents = documents;
+        this.unhashed = unhashed;
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate
+    ) {
+        if (getPersistedQueryId(executionInput).isPresent()) {
+            return super.getDocumentAsync(executionInput, parseAndValidate);
+        }
+        if (documents.allowList == null) {
+            return unhashed.getDocumentAsync(executionInput, parseAndValidate);
+        }
+
+        // Allow-list: a full document is accepted if it is one of the listed ones
+        String id = sha256(executionInput.getQuery());
+        if (!documents.allowList.containsKey(id)) {
+            return CompletableFuture.completedFuture(notAllowed());
+        }
+        return CompletableFuture.completedFuture(documents.load(id, () -> parseAndValidate.apply(executionInput)));
+    }
+
+    private static PreparsedDocumentEntry notAllowed() {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .message("Operation is not in the persisted query allow-list")
+                .extensions(Map.of("classification", "PersistedQueryNotAllowed"))
+                .build());
+    }
+
+    static String sha256(String document) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(document.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Apollo persisted query manifest: {"operations": [{"id", "name", "type", "body"}]},
+     * id being the SHA-256 of body.
+     */
+    private static Map<String, String> readManifest(Resource manifest) {
+        if (manifest == null || !manifest.exists()) {
+            // Generated, not committed: fail at startup rather than refuse every operation
+            throw new IllegalStateException("Persisted query allow-list manifest " + manifest + " is missing: "
+                    + "run `npm run persisted-queries` in frontend (writes src/main/resources/"
+                    + "graphql/persisted-query-manifest.json) or set auction.graphql.persisted-queries.manifest");
+        }
+        Map<String, String> bodies = new HashMap<>();
+        try (InputStream in = manifest.getInputStream()) {
+            JsonNode operations = JsonMapper.builder().build().readTree(in).path("operations");
+            for (JsonNode operation : operations) {
+                bodies.put(operation.path("id").asString(), operation.path("body").asString());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read the persisted query manifest " + manifest, ex);
+        }
+        return Map.copyOf(bodies);
+    }
+
+    private static final class DocumentCache implements PersistedQueryCache {
+
+        private final Map<String, String> allowList; // null unless ALLOW_LIST
+        private final Cache<Object, PreparsedDocumentEntry> entries;
+
+        DocumentCache(Map<String, String> allowList, long cacheSize, MeterRegistry meterRegistry) {
+            this.allowList = allowList;
+            this.entries = Caffeine.newBuilder()
+                    .maximumSize(cacheSize)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, entries, "persistedQueries",
+                    Tags.of("cache.manager", "graphql", "name", "persistedQueries"));
+        }
+
+        @Override
+        public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(
+                Object persistedQueryId,
+                ExecutionInput executionInput,
+                PersistedQueryCacheMiss onCacheMiss
+        ) {
+            PreparsedDocumentEntry cached = entries.getIfPresent(persistedQueryId);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+
+            // Automatic: the request's document (none: PersistedQueryNotFound, the client resends it)
+            String document = PERSISTED_QUERY_MARKER.equals(executionInput.getQuery()) ? null : executionInput.getQuery();
+            if (allowList != null) {
+                document = allowList.get(String.valueOf(persistedQueryId).toLowerCase());
+                if (document == null) {
+                    return CompletableFuture.completedFuture(notAllowed());
+                }
+            }
+            String missing = document;
+            return CompletableFuture.completedFuture(load(persistedQueryId, () -> onCacheMiss.apply(missing)));
+        }
+
+        PreparsedDocumentEntry load(Object persistedQueryId, Supplier<PreparsedDocumentEntry> parseAndValidate) {
+            PreparsedDocumentEntry entry = parseAndValidate.get();
+            if (!entry.hasErrors()) {
+                entries.put(persistedQueryId, entry);
+            }
+            return entry;
+        }
+    }
+}
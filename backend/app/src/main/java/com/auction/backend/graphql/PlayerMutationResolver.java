@@ -1,21 +1,36 @@
 package com.auction.backend.graphql;
 
 import com.auction.backend.domain.Player;
+import com.auction.backend.exception.DomainException;
 import com.auction.backend.graphql.input.CreatePlayerInput;
+import com.auction.backend.service.PlayerImportReport;
+import com.auction.backend.service.PlayerImportService;
 import com.auction.backend.service.PlayerService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.unit.DataSize;
 
+import java.io.StringReader;
 import java.math.BigDecimal;
 
 @Controller
 public class PlayerMutationResolver {
 
     private final PlayerService playerService;
+    private final PlayerImportService playerImportService;
+    private final long maxInlineSize;
 
-    public PlayerMutationResolver(PlayerService playerService) {
+    public PlayerMutationResolver(
+            PlayerService playerService,
+            PlayerImportService playerImportService,
+            @Value("${auction.import.max-inline-size:1MB}") DataSize maxInlineSize
+    ) {
         this.playerService = playerService;
+        this.playerImportService = playerImportService;
+        this.maxInlineSize = maxInlineSize.toBytes();
     }
 
     @MutationMapping
@@ -27,4 +42,22 @@ public class PlayerMutationResolver {
                 BigDecimal.valueOf(input.getBasePrice())
         );
     }
+
+    /**
+     * Bulk import of a small file. GraphQL over HTTP has no file upload here,
+     * so the content comes as a string, held in memory with the whole request:
+     * it is capped at auction.import.max-inline-size. Larger files go through
+     * POST /api/players/import (PlayerImportController), which streams them.
+     */
+    @MutationMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public PlayerImportReport importPlayers(
+            @Argument PlayerImportService.Format format,
+            @Argument String file
+    ) {
+        if (file.length() > maxInlineSize) {
+            throw new DomainException("File too large for importPlayers, upload it to /api/players/import instead");
+        }
+        return playerImportService.importPlayers(new StringReader(file), format);
+    }
 }
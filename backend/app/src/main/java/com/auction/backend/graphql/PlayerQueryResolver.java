@@ -1,8 +1,11 @@
 package com.auction.backend.graphql;
 
 import com.auction.backend.domain.Player;
+import com.auction.backend.repository.PlayerRepository;
 import com.auction.backend.service.PlayerService;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
@@ -11,13 +14,22 @@ import java.util.List;
 public class PlayerQueryResolver {
 
     private final PlayerService playerService;
+    private final PlayerRepository playerRepository;
+    private final Pagination pagination;
 
-    public PlayerQueryResolver(PlayerService playerService) {
+    public PlayerQueryResolver(PlayerService playerService, PlayerRepository playerRepository, Pagination pagination) {
         this.playerService = playerService;
+        this.playerRepository = playerRepository;
+        this.pagination = pagination;
     }
 
     @QueryMapping
     public List<Player> players() {
         return playerService.getAllPlayers();
     }
+
+    @QueryMapping
+    public Window<Player> playersConnection(ScrollSubrange subrange) {
+        return playerRepository.findAllByOrderByIdAsc(pagination.position(subrange), pagination.limit(subrange));
+    }
 }
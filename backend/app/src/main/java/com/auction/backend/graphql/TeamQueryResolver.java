@@ -1,8 +1,11 @@
 package com.auction.backend.graphql;
 
 import com.auction.backend.domain.Team;
+import com.auction.backend.repository.TeamRepository;
 import com.auction.backend.service.TeamService;
+import org.springframework.data.domain.Window;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
@@ -11,13 +14,22 @@ import java.util.List;
 public class TeamQueryResolver {
 
     private final TeamService teamService;
+    private final TeamRepository teamRepository;
+    private final Pagination pagination;
 
-    public TeamQueryResolver(TeamService teamService) {
+    public TeamQueryResolver(TeamService teamService, TeamRepository teamRepository, Pagination pagination) {
         this.teamService = teamService;
+        this.teamRepository = teamRepository;
+        this.pagination = pagination;
     }
 
     @QueryMapping
     public List<Team> teams() {
         return teamService.getAllTeams();
     }
+
+    @QueryMapping
+    public Window<Team> teamsConnection(ScrollSubrange subrange) {
+        return teamRepository.findAllByOrderByIdAsc(pagination.position(subrange), pagination.limit(subrange));
+    }
 }
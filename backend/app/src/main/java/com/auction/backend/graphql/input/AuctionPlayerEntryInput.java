@@ -0,0 +1,23 @@
+package com.auction.backend.graphql.input;
+
+public class AuctionPlayerEntryInput {
+
+    private Long playerId;
+    private Double basePrice;
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public Double getBasePrice() {
+        return basePrice;
+    }
+
+    public void setBasePrice(Double basePrice) {
+        this.basePrice = basePrice;
+    }
+}
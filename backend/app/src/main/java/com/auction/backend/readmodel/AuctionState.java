@@ -0,0 +1,57 @@
+package com.auction.backend.readmodel;
+
+import com.auction.backend.domain.AuctionStatus;
+import com.auction.backend.domain.PlayerCategory;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Everything the auction screen shows, as one immutable snapshot.
+ *
+ * Built by AuctionStateStore; version increases with every change, so
+ * clients can tell whether they already have the latest one.
+ */
+public record AuctionState(
+        Long auctionId,
+        AuctionStatus status,
+        long version,
+        CurrentPlayer currentPlayer,
+        List<TeamStanding> teams
+) {
+
+    /**
+     * The player under the hammer, with the live price, leader and deadline.
+     */
+    public record CurrentPlayer(
+            Long auctionPlayerId,
+            Long playerId,
+            String name,
+            PlayerCategory category,
+            BigDecimal basePrice,
+            BigDecimal currentPrice,
+            Long leadingTeamId,
+            String leadingTeamName,
+            Instant timerEndAt
+    ) {
+    }
+
+    /**
+     * A team's position in this auction: its purse minus what it spent
+     * here, and the players it bought per category.
+     */
+    public record TeamStanding(
+            Long teamId,
+            String name,
+            BigDecimal purse,
+            BigDecimal remainingPurse,
+            int squadSize,
+            int maxSquadSize,
+            List<CategoryCount> squad
+    ) {
+    }
+
+    public record CategoryCount(PlayerCategory category, int count) {
+    }
+}
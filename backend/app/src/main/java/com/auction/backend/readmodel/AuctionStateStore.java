@@ -0,0 +1,365 @@
+package com.auction.backend.readmodel;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.AuctionPlayerStatus;
+import com.auction.backend.domain.AuctionStatus;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.engine.BidEngine;
+import com.auction.backend.engine.LiveAuctionPlayer;
+import com.auction.backend.event.AuctionPlayerChangedEvent;
+import com.auction.backend.event.BidPlacedEvent;
+import com.auction.backend.repository.AuctionPlayerRepository;
+import com.auction.backend.repository.AuctionRepository;
+import com.auction.backend.repository.BidRepository;
+import com.auction.backend.repository.TeamRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory read model behind the auctionState query (CQRS).
+ *
+ * Loaded once at startup, then kept up to date by the write side:
+ * AuctionService, TeamService and AuctionPlayerService report committed
+ * changes, and BidWriter's AuctionPlayerChangedEvent carries every stored
+ * bid. A bid the engine accepted but the writer has not stored (or
+ * rejected) is never shown. Each change produces a new immutable
+ * AuctionState; reads are a map lookup and never touch the database.
+ *
+ * Teams are global; an auction lists only its participants, the teams
+ * with a stored bid in it (BidPlacedEvent adds them). Purses are not
+ * deducted on a sale: the remaining purse is the purse minus what the team
+ * spent in that auction. While a player is LIVE, its deadline is the
+ * engine's, as for AuctionPlayer.timerEndAt.
+ */
+@Component
+public class AuctionStateStore {
+
+    private static final PlayerCategory[] CATEGORIES = PlayerCategory.values();
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionPlayerRepository auctionPlayerRepository;
+    private final TeamRepository teamRepository;
+    private final BidRepository bidRepository;
+    private final BidEngine bidEngine;
+
+    private final Map<Long, TeamInfo> teams = new ConcurrentHashMap<>();
+    private final Map<Long, TrackedAuction> auctions = new ConcurrentHashMap<>();
+
+    public AuctionStateStore(
+            AuctionRepository auctionRepository,
+            AuctionPlayerRepository auctionPlayerRepository,
+            TeamRepository teamRepository,
+            BidRepository bidRepository,
+            BidEngine bidEngine
+    ) {
+        this.auctionRepository = auctionRepository;
+        this.auctionPlayerRepository = auctionPlayerRepository;
+        this.teamRepository = teamRepository;
+        this.bidRepository = bidRepository;
+        this.bidEngine = bidEngine;
+    }
+
+    /**
+     * Latest snapshot of the auction, or null if there is no such auction.
+     */
+    public AuctionState find(Long auctionId) {
+        TrackedAuction auction = auctions.get(auctionId);
+        return auction != null ? auction.snapshot : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        teamRepository.findAll().forEach(team -> teams.put(team.getId(), new TeamInfo(team)));
+
+        for (Auction auction : auctionRepository.findAll()) {
+            auctions.computeIfAbsent(auction.getId(), TrackedAuction::new).status = auction.getStatus();
+        }
+
+        for (BidRepository.Participant row : bidRepository.findParticipants()) {
+            TrackedAuction auction = auctions.get(row.getAuctionId());
+            if (auction != null) {
+                auction.participants.add(row.getTeamId());
+            }
+        }
+
+        for (AuctionPlayerRepository.SquadSummary row : auctionPlayerRepository.summarizeSquads(AuctionPlayerStatus.SOLD)) {
+            TrackedAuction auction = auctions.get(row.getAuctionId());
+            if (auction != null) {
+                auction.squad(row.getTeamId()).add(row.getCategory(), (int) row.getPlayers(), row.getSpent());
+            }
+        }
+
+        for (AuctionPlayer auctionPlayer : auctionPlayerRepository.findAllCurrent()) {
+            TrackedAuction auction = auctions.get(auctionPlayer.getAuction().getId());
+            if (auction != null) {
+                auction.currentPlayer = currentPlayer(auctionPlayer);
+            }
+        }
+
+        auctions.keySet().forEach(auctionId -> update(auctionId, auction -> true));
+    }
+
+    /* ---- Write side ---- */
+
+    public void auctionChanged(Auction auction) {
+        Long auctionId = auction.getId();
+        AuctionStatus status = auction.getStatus();
+        afterCommit(() -> {
+            auctions.computeIfAbsent(auctionId, TrackedAuction::new);
+            update(auctionId, tracked -> {
+                tracked.status = status;
+                return true;
+            });
+        });
+    }
+
+    /**
+     * A new team takes part in no auction yet: no snapshot changes.
+     */
+    public void teamAdded(Team team) {
+        TeamInfo info = new TeamInfo(team);
+        afterCommit(() -> teams.put(info.id(), info));
+    }
+
+    /**
+     * The auction player, with its player loaded, went LIVE.
+     */
+    public void playerStarted(AuctionPlayer auctionPlayer) {
+        Long auctionId = auctionPlayer.getAuction().getId();
+        AuctionState.CurrentPlayer currentPlayer = currentPlayer(auctionPlayer);
+        afterCommit(() -> update(auctionId, auction -> {
+            auction.currentPlayer = currentPlayer;
+            auction.currentPlayerVersion = null;
+            return true;
+        }));
+    }
+
+    /**
+     * The auction player, with its player loaded, was SOLD or UNSOLD.
+     */
+    public void playerClosed(AuctionPlayer auctionPlayer) {
+        Long auctionId = auctionPlayer.getAuction().getId();
+        Long auctionPlayerId = auctionPlayer.getId();
+        boolean sold = auctionPlayer.getStatus() == AuctionPlayerStatus.SOLD;
+        Long teamId = sold ? auctionPlayer.getCurrentHighestBidTeam().getId() : null;
+        PlayerCategory category = auctionPlayer.getPlayer().getCategory();
+        BigDecimal price = auctionPlayer.getCurrentPrice();
+        afterCommit(() -> update(auctionId, auction -> {
+            if (auction.currentPlayer != null && auction.currentPlayer.auctionPlayerId().equals(auctionPlayerId)) {
+                auction.currentPlayer = null;
+            }
+            if (sold) {
+                auction.squad(teamId).add(category, 1, price);
+                auction.standings = null;
+            }
+            return true;
+        }));
+    }
+
+    /**
+     * A team's first stored bid in an auction makes it a participant.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidPlaced(BidPlacedEvent event) {
+        Long teamId = event.bid().getTeamId();
+        update(event.bid().getAuctionPlayer().getAuction().getId(), auction -> {
+            if (!auction.participants.add(teamId)) {
+                return false;
+            }
+            auction.standings = null;
+            return true;
+        });
+    }
+
+    /**
+     * Leading bid of the LIVE player as committed (BidWriter publishes it
+     * after each batch).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionPlayerChanged(AuctionPlayerChangedEvent event) {
+        AuctionPlayer auctionPlayer = event.auctionPlayer();
+        if (auctionPlayer.getStatus() != AuctionPlayerStatus.LIVE) {
+            return;
+        }
+        Long leadingTeamId = auctionPlayer.getCurrentHighestBidTeam() != null
+                ? auctionPlayer.getCurrentHighestBidTeam().getId()
+                : null;
+        TeamInfo leader = leadingTeamId != null ? teams.get(leadingTeamId) : null;
+        Long version = auctionPlayer.getVersion();
+        update(auctionPlayer.getAuction().getId(), auction -> {
+            AuctionState.CurrentPlayer current = auction.currentPlayer;
+            if (current == null || !current.auctionPlayerId().equals(auctionPlayer.getId())) {
+                return false;
+            }
+            // Events of different threads can arrive out of order: never go back to an older row
+            if (version != null && auction.currentPlayerVersion != null && version < auction.currentPlayerVersion) {
+                return false;
+            }
+            auction.currentPlayerVersion = version;
+            auction.currentPlayer = new AuctionState.CurrentPlayer(
+                    current.auctionPlayerId(), current.playerId(), current.name(), current.category(),
+                    current.basePrice(), auctionPlayer.getCurrentPrice(), leadingTeamId,
+                    leader != null ? leader.name() : null, timerEndAt(auctionPlayer)
+            );
+            return true;
+        });
+    }
+
+    /* ---- Internals ---- */
+
+    private AuctionState.CurrentPlayer currentPlayer(AuctionPlayer auctionPlayer) {
+        Long leadingTeamId = auctionPlayer.getCurrentHighestBidTeam() != null
+                ? auctionPlayer.getCurrentHighestBidTeam().getId()
+                : null;
+        TeamInfo leader = leadingTeamId != null ? teams.get(leadingTeamId) : null;
+        return new AuctionState.CurrentPlayer(
+                auctionPlayer.getId(),
+                auctionPlayer.getPlayer().getId(),
+                auctionPlayer.getPlayer().getName(),
+                auctionPlayer.getPlayer().getCategory(),
+                auctionPlayer.getBasePrice(),
+                auctionPlayer.getCurrentPrice(),
+                leadingTeamId,
+                leader != null ? leader.name() : null,
+                timerEndAt(auctionPlayer)
+        );
+    }
+
+    /**
+     * The engine's deadline while it holds the player; the column can lag
+     * behind by the writer's latency.
+     */
+    private Instant timerEndAt(AuctionPlayer auctionPlayer) {
+        LiveAuctionPlayer live = bidEngine.find(auctionPlayer.getId());
+        return live != null ? live.getTimerEndAt() : auctionPlayer.getTimerEndAt();
+    }
+
+    /**
+     * Apply a change to a known auction and publish a new snapshot if it changed anything.
+     */
+    private void update(Long auctionId, Predicate<TrackedAuction> change) {
+        TrackedAuction auction = auctions.get(auctionId);
+        if (auction == null) {
+            return;
+        }
+        synchronized (auction) {
+            if (change.test(auction)) {
+                auction.publish(teams);
+            }
+        }
+    }
+
+    /**
+     * Run once the surrounding transaction commits (right away without one),
+     * so the read model never shows a change that was rolled back.
+     */
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private record TeamInfo(Long id, String name, BigDecimal purse, int maxSquadSize) {
+
+        TeamInfo(Team team) {
+            this(team.getId(), team.getName(), team.getPurse(), team.getMaxSquadSize());
+        }
+    }
+
+    /**
+     * Players bought by one team in one auction.
+     */
+    private static final class Squad {
+        private final int[] players = new int[CATEGORIES.length];
+        private BigDecimal spent = BigDecimal.ZERO;
+
+        void add(PlayerCategory category, int count, BigDecimal price) {
+            players[category.ordinal()] += count;
+            spent = spent.add(price);
+        }
+    }
+
+    /**
+     * Mutable state of one auction; guarded by its own lock.
+     * The published snapshot is read without locking.
+     */
+    private static final class TrackedAuction {
+        private final Long auctionId;
+        private AuctionStatus status;
+        private AuctionState.CurrentPlayer currentPlayer;
+        private Long currentPlayerVersion; // row version currentPlayer was built from, when known
+        private final Map<Long, Squad> squads = new HashMap<>();
+        private final Set<Long> participants = new TreeSet<>(); // team ids, the order teams are listed in
+        private long version;
+
+        // Rebuilt only when a team or a squad changes, not on every bid
+        private List<AuctionState.TeamStanding> standings;
+
+        private volatile AuctionState snapshot;
+
+        TrackedAuction(Long auctionId) {
+            this.auctionId = auctionId;
+        }
+
+        Squad squad(Long teamId) {
+            return squads.computeIfAbsent(teamId, id -> new Squad());
+        }
+
+        void publish(Map<Long, TeamInfo> teams) {
+            if (standings == null) {
+                standings = standings(teams);
+            }
+            snapshot = new AuctionState(auctionId, status, ++version, currentPlayer, standings);
+        }
+
+        private List<AuctionState.TeamStanding> standings(Map<Long, TeamInfo> teams) {
+            List<AuctionState.TeamStanding> result = new ArrayList<>(participants.size());
+            for (Long teamId : participants) {
+                TeamInfo team = teams.get(teamId);
+                if (team == null) {
+                    continue; // bid committed before the team's own commit was seen
+                }
+                Squad squad = squads.get(team.id());
+                List<AuctionState.CategoryCount> counts = new ArrayList<>(CATEGORIES.length);
+                int squadSize = 0;
+                for (PlayerCategory category : CATEGORIES) {
+                    int count = squad != null ? squad.players[category.ordinal()] : 0;
+                    counts.add(new AuctionState.CategoryCount(category, count));
+                    squadSize += count;
+                }
+                BigDecimal spent = squad != null ? squad.spent : BigDecimal.ZERO;
+                result.add(new AuctionState.TeamStanding(
+                        team.id(), team.name(), team.purse(), team.purse().subtract(spent),
+                        squadSize, team.maxSquadSize(), List.copyOf(counts)
+                ));
+            }
+            return List.copyOf(result);
+        }
+    }
+}
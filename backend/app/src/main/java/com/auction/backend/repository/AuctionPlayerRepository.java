@@ -1,11 +1,81 @@
 package com.auction.backend.repository;
 
 import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.AuctionPlayerStatus;
+import com.auction.backend.domain.PlayerCategory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface AuctionPlayerRepository extends JpaRepository<AuctionPlayer, Long> {
 
     List<AuctionPlayer> findByAuctionId(Long auctionId);
+
+    /**
+     * One page of the board, seeking on id.
+     */
+    Window<AuctionPlayer> findByAuctionIdOrderByIdAsc(Long auctionId, ScrollPosition position, Limit limit);
+
+    List<AuctionPlayer> findByStatus(AuctionPlayerStatus status);
+
+    /**
+     * AuctionPlayer with its auction and player in one query
+     * (auction status checks, the auction state read model).
+     */
+    @EntityGraph(attributePaths = {"auction", "player"})
+    Optional<AuctionPlayer> findWithAuctionAndPlayerById(Long id);
+
+    /**
+     * AuctionPlayer with its player in one query (closing updates both).
+     */
+    @EntityGraph(attributePaths = "player")
+    Optional<AuctionPlayer> findWithPlayerById(Long id);
+
+    /**
+     * The auction's current player, through the pointer on Auction.
+     */
+    @Query("select ap from Auction a join a.currentAuctionPlayer ap where a.id = :auctionId")
+    Optional<AuctionPlayer> findCurrentByAuctionId(@Param("auctionId") Long auctionId);
+
+    /**
+     * Current players of all auctions, with their player.
+     */
+    @Query("select ap from Auction a join a.currentAuctionPlayer ap join fetch ap.player")
+    List<AuctionPlayer> findAllCurrent();
+
+    /**
+     * Players and money spent per auction, buying team and category.
+     */
+    @Query("select ap.auction.id as auctionId, ap.currentHighestBidTeam.id as teamId, p.category as category, "
+            + "count(ap) as players, sum(ap.currentPrice) as spent "
+            + "from AuctionPlayer ap join ap.player p where ap.status = :status "
+            + "group by ap.auction.id, ap.currentHighestBidTeam.id, p.category")
+    List<SquadSummary> summarizeSquads(@Param("status") AuctionPlayerStatus status);
+
+    interface SquadSummary {
+        Long getAuctionId();
+
+        Long getTeamId();
+
+        PlayerCategory getCategory();
+
+        long getPlayers();
+
+        BigDecimal getSpent();
+    }
+
+    /**
+     * Which of the given players are already scheduled in the auction.
+     */
+    @Query("select ap.player.id from AuctionPlayer ap where ap.auction.id = :auctionId and ap.player.id in :playerIds")
+    List<Long> findScheduledPlayerIds(@Param("auctionId") Long auctionId, @Param("playerIds") Collection<Long> playerIds);
 }
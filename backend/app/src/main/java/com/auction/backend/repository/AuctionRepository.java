@@ -1,7 +1,30 @@
 package com.auction.backend.repository;
 
 import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AuctionRepository extends JpaRepository<Auction, Long> {
+
+    /**
+     * Make the player current unless another one is: a single-row
+     * compare-and-set, whatever the auction size.
+     *
+     * @return 1 if the player is now current, 0 if another one already was
+     */
+    @Modifying
+    @Query("update Auction a set a.currentAuctionPlayer = :auctionPlayer "
+            + "where a.id = :auctionId and a.currentAuctionPlayer is null")
+    int claimCurrentAuctionPlayer(@Param("auctionId") Long auctionId, @Param("auctionPlayer") AuctionPlayer auctionPlayer);
+
+    /**
+     * Clear the current player, if it is still this one.
+     */
+    @Modifying
+    @Query("update Auction a set a.currentAuctionPlayer = null "
+            + "where a.id = :auctionId and a.currentAuctionPlayer.id = :auctionPlayerId")
+    int releaseCurrentAuctionPlayer(@Param("auctionId") Long auctionId, @Param("auctionPlayerId") Long auctionPlayerId);
 }
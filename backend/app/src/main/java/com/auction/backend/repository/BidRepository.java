@@ -1,11 +1,52 @@
 package com.auction.backend.repository;
 
 import com.auction.backend.domain.Bid;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface BidRepository extends JpaRepository<Bid, Long> {
 
     List<Bid> findByAuctionPlayerIdOrderByCreatedAtAsc(Long auctionPlayerId);
+
+    /**
+     * Bids stored after the given one. Ids follow the order bids were
+     * accepted in, and are stored in that order, so polling never skips one.
+     */
+    List<Bid> findByAuctionPlayerIdAndIdGreaterThanOrderByCreatedAtAscIdAsc(Long auctionPlayerId, Long id);
+
+    /**
+     * One page of the history, seeking on (created_at, id).
+     */
+    Window<Bid> findByAuctionPlayerIdOrderByCreatedAtAscIdAsc(Long auctionPlayerId, ScrollPosition position, Limit limit);
+
+    /**
+     * Highest stored bid id (null if there are none); new ids continue from it.
+     */
+    @Query("select max(b.id) from Bid b")
+    Long findMaxId();
+
+    /**
+     * Which of the given bid ids are stored.
+     */
+    @Query("select b.id from Bid b where b.id in :ids")
+    Set<Long> findIdsByIdIn(Collection<Long> ids);
+
+    /**
+     * Every (auction, team) pair with at least one stored bid.
+     */
+    @Query("select distinct ap.auction.id as auctionId, b.teamId as teamId from Bid b join b.auctionPlayer ap")
+    List<Participant> findParticipants();
+
+    interface Participant {
+        Long getAuctionId();
+
+        Long getTeamId();
+    }
 }
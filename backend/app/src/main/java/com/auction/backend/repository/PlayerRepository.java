@@ -1,9 +1,16 @@
 package com.auction.backend.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.auction.backend.domain.Player;
 
 public interface PlayerRepository extends JpaRepository<Player,Long> {
-    
+
+    /**
+     * One page of players, seeking on id.
+     */
+    Window<Player> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
 }
@@ -1,11 +1,30 @@
 package com.auction.backend.repository;
 
 import com.auction.backend.domain.Team;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
     Optional<Team> findByName(String name);
+
+    /**
+     * One page of teams, seeking on id.
+     */
+    Window<Team> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+
+    /**
+     * Load teams whose version is re-checked at commit,
+     * so a purse change committed meanwhile fails the transaction.
+     */
+    @Lock(LockModeType.OPTIMISTIC)
+    List<Team> findByIdIn(Collection<Long> ids);
 }
@@ -1,7 +1,10 @@
 package com.auction.backend.repository;
 
 import com.auction.backend.domain.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,6 +17,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Used during login to validate credentials.
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Find user by username together with their team (for the "me" query).
+     */
+    @EntityGraph(attributePaths = "team")
+    Optional<User> findWithTeamByUsername(String username);
     
     /**
      * Check if username already exists (for registration validation).
@@ -24,4 +33,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Check if email already exists (for registration validation).
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Current token version only (revocation check, no entity load).
+     */
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(Long id);
+
+    /**
+     * Replace a password hash (rehash at a new BCrypt strength, no entity load).
+     */
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePassword(String username, String password);
 }
@@ -0,0 +1,50 @@
+package com.auction.backend.security;
+
+import com.auction.backend.domain.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Spring Security user carrying the fields JwtTokenProvider embeds as claims.
+ */
+public class AuctionUserDetails extends User {
+
+    private final Long userId;
+    private final Role role;
+    private final Long teamId;
+    private final int tokenVersion;
+
+    public AuctionUserDetails(
+            Long userId,
+            String username,
+            String password,
+            Role role,
+            Long teamId,
+            int tokenVersion,
+            Collection<? extends GrantedAuthority> authorities
+    ) {
+        super(username, password, authorities);
+        this.userId = userId;
+        this.role = role;
+        this.teamId = teamId;
+        this.tokenVersion = tokenVersion;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+}
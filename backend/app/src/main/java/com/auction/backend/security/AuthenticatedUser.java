@@ -0,0 +1,36 @@
+package com.auction.backend.security;
+
+import com.auction.backend.domain.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal of a JWT-authenticated request, built purely from verified claims
+ * (no database access).
+ *
+ * @param teamId null for admins
+ */
+public record AuthenticatedUser(
+        Long userId,
+        String username,
+        Role role,
+        Long teamId,
+        int tokenVersion
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    /**
+     * Same "ROLE_" authority CustomUserDetailsService grants at login.
+     */
+    public Collection<? extends GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
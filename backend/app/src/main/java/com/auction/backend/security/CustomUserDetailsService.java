@@ -1,13 +1,19 @@
 package com.auction.backend.security;
 
+import com.auction.backend.config.CacheConfig;
+import com.auction.backend.domain.Role;
 import com.auction.backend.domain.User;
 import com.auction.backend.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -21,24 +27,37 @@ import java.util.Collections;
  * This service converts our User → UserDetails that Spring Security understands.
  * 
  * Called by:
- * 1. JwtAuthenticationFilter (after validating token)
- * 2. AuthenticationManager (during login)
+ * - AuthenticationManager (during login)
+ *
+ * Requests carrying a JWT do not come here: the filter builds the
+ * principal from the token's claims (see JwtTokenProvider.getPrincipal).
+ * 
+ * Caching:
+ * - Accounts are cached by username (bounded, expiring; see CacheConfig)
+ * - The cache holds an immutable snapshot, never the returned UserDetails:
+ *   Spring Security erases credentials on the UserDetails after login,
+ *   which would wipe the password hash of a shared cached object
+ * - Only existing users are cached; AuthService evicts on changes
+ *
+ * Rehash: as UserDetailsPasswordService it stores the new hash when
+ * DaoAuthenticationProvider upgrades an old one on login (see SecurityConfig).
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final Cache accounts;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, CacheManager cacheManager) {
         this.userRepository = userRepository;
+        this.accounts = cacheManager.getCache(CacheConfig.USER_DETAILS);
     }
 
     /**
      * Load user by username from database.
      * 
-     * This method is called by Spring Security to:
-     * 1. Authenticate user during login
-     * 2. Load user details after JWT validation
+     * This method is called by Spring Security to authenticate user during login.
+     * The returned AuctionUserDetails carries what the issued JWT embeds.
      * 
      * @param username Username to search for
      * @return UserDetails object Spring Security can work with
@@ -46,14 +65,43 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        Account account = accounts.get(username, Account.class);
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                getAuthorities(user)
-        );
+        if (account == null) {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+
+            account = Account.of(user);
+            accounts.put(username, account);
+        }
+
+        return account.toUserDetails();
+    }
+
+    /**
+     * Store a password hash computed at the current BCrypt strength.
+     * Called after a successful login whose stored hash was weaker.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        evict(user.getUsername());
+
+        if (user instanceof AuctionUserDetails details) {
+            return new AuctionUserDetails(
+                    details.getUserId(), details.getUsername(), newPassword, details.getRole(),
+                    details.getTeamId(), details.getTokenVersion(), details.getAuthorities()
+            );
+        }
+        return user;
+    }
+
+    /**
+     * Drop a cached account (call after the user's row changed).
+     */
+    public void evict(String username) {
+        accounts.evict(username);
     }
 
     /**
@@ -64,9 +112,39 @@ public class CustomUserDetailsService implements UserDetailsService {
      * 
      * Note: Spring Security expects "ROLE_" prefix for @PreAuthorize("hasRole('ADMIN')")
      */
-    private Collection<? extends GrantedAuthority> getAuthorities(User user) {
+    private static Collection<? extends GrantedAuthority> getAuthorities(Role role) {
         return Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                new SimpleGrantedAuthority("ROLE_" + role.name())
         );
     }
+
+    /**
+     * Immutable cached view of a user row.
+     */
+    private record Account(
+            Long userId,
+            String username,
+            String passwordHash,
+            Role role,
+            Long teamId,
+            int tokenVersion
+    ) {
+
+        static Account of(User user) {
+            return new Account(
+                    user.getId(),
+                    user.getUsername(),
+                    user.getPassword(),
+                    user.getRole(),
+                    user.getTeam() != null ? user.getTeam().getId() : null,
+                    user.getTokenVersion()
+            );
+        }
+
+        UserDetails toUserDetails() {
+            return new AuctionUserDetails(
+                    userId, username, passwordHash, role, teamId, tokenVersion, getAuthorities(role)
+            );
+        }
+    }
 }
@@ -1,13 +1,14 @@
 package com.auction.backend.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -22,12 +23,18 @@ import java.io.IOException;
  * 
  * Flow:
  * 1. Extract JWT from Authorization header (format: "Bearer <token>")
- * 2. Validate token signature and expiry
- * 3. Extract username from token
- * 4. Load user from database
+ * 2. Validate token signature and expiry, reading its claims in the same pass
+ * 3. Build the principal (user id, role, team) from the claims
+ * 4. Check the token has not been revoked (in-memory token version)
  * 5. Create Authentication object
  * 6. Store in SecurityContext (thread-local storage)
  * 
+ * Stateless: no database access per request. Role or team changes bump the
+ * user's token version, which rejects tokens issued before the change.
+ * 
+ * Metrics: auction.jwt.filter, the time spent authenticating, by outcome
+ * (authenticated, anonymous: no token, rejected: invalid or revoked token).
+ * 
  * Why OncePerRequestFilter?
  * - Guarantees filter runs exactly once per request
  * - Avoids multiple executions in async/forward scenarios
@@ -42,14 +49,17 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersions;
+    private final MeterRegistry meterRegistry;
 
     public JwtAuthenticationFilter(
             JwtTokenProvider tokenProvider,
-            UserDetailsService userDetailsService
+            TokenVersionRegistry tokenVersions,
+            MeterRegistry meterRegistry
     ) {
         this.tokenProvider = tokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.tokenVersions = tokenVersions;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -62,26 +72,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "rejected";
         try {
             // Step 1: Extract JWT from request
             String jwt = extractJwtFromRequest(request);
+            if (!StringUtils.hasText(jwt)) {
+                outcome = "anonymous";
+            }
+
+            // Step 2: Validate and process if token exists (single parse, cached)
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : null;
 
-            // Step 2: Validate and process if token exists
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                
-                // Step 3: Extract username from validated token
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            // Step 3: Principal from verified claims (null for tokens without user claims)
+            AuthenticatedUser principal = claims != null ? tokenProvider.getPrincipal(claims) : null;
 
-                // Step 4: Load user details from database
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // Step 4: Reject revoked tokens
+            if (principal != null && tokenVersions.isCurrent(principal.userId(), principal.tokenVersion())) {
 
                 // Step 5: Create authentication object
                 // This represents the authenticated user with their authorities
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,           // Principal (the authenticated user)
-                                null,                  // Credentials (not needed after auth)
-                                userDetails.getAuthorities()  // Roles/permissions
+                                principal,                  // Principal (the authenticated user)
+                                null,                       // Credentials (not needed after auth)
+                                principal.authorities()     // Roles/permissions
                         );
 
                 // Add request details (IP, session ID, etc.)
@@ -92,11 +107,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // Step 6: Store in SecurityContext
                 // Now any @PreAuthorize checks will use this authentication
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                outcome = "authenticated";
             }
         } catch (Exception ex) {
             // Log but don't block request - let Spring Security handle unauthorized
             logger.error("Could not set user authentication in security context", ex);
         }
+        sample.stop(Timer.builder("auction.jwt.filter")
+                .description("Request authentication from the bearer token")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
 
         // Continue filter chain (move to next filter/controller)
         filterChain.doFilter(request, response);
@@ -1,7 +1,14 @@
 package com.auction.backend.security;
 
+import com.auction.backend.domain.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,7 +16,11 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 
 /**
  * JWT Token Provider - Core component for JWT token lifecycle.
@@ -17,99 +28,191 @@ import java.util.Date;
  * Responsibilities:
  * 1. Generate JWT tokens with user claims
  * 2. Validate token signature and expiry
- * 3. Extract user information from tokens
+ * 3. Extract user information from tokens (stateless principal)
  * 
  * Security Notes:
  * - Uses HS256 algorithm (HMAC with SHA-256)
  * - Secret key must be at least 256 bits (32 characters)
  * - Tokens are signed, not encrypted (payload is readable)
  * - Signature prevents tampering
+ *
+ * Performance Notes:
+ * - Key and parser are built once; both are immutable and thread-safe
+ * - Verified tokens are cached (bounded, keyed by SHA-256 of the token),
+ *   so a client repeating the same bearer token skips signature checks.
+ *   An entry never outlives the token's own expiry.
  */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    @Value("${jwt.expiration}")
-    private long jwtExpirationMs;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TEAM_ID_CLAIM = "teamId";
+    private static final String TOKEN_VERSION_CLAIM = "tv";
+
+    private final long jwtExpirationMs;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtTokenProvider(
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.expiration}") long jwtExpirationMs,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${jwt.cache.ttl:5m}") Duration cacheTtl
+    ) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.creating((String tokenHash, Claims claims) -> cacheLifetime(claims, cacheTtl)))
+                .build();
+    }
 
     /**
      * Generate JWT token from authenticated user.
      * 
      * Token structure:
      * Header: {alg: HS256, typ: JWT}
-     * Payload: {sub: username, role: ROLE, iat: issued_at, exp: expiry}
+     * Payload: {sub: username, uid: user_id, role: ROLE, teamId: team_id, tv: token_version,
+     *           iat: issued_at, exp: expiry}
      * Signature: HMACSHA256(header + payload, secret)
+     *
+     * uid/role/teamId/tv let requests authenticate without loading the user
+     * (see getPrincipal); they are only present for our own AuctionUserDetails.
      */
     public String generateToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userDetails.getUsername())     // 'sub' claim - who is this token for?
                 .issuedAt(now)                          // 'iat' claim - when was it issued?
-                .expiration(expiryDate)                 // 'exp' claim - when does it expire?
+                .expiration(expiryDate);                // 'exp' claim - when does it expire?
+
+        if (userDetails instanceof AuctionUserDetails user) {
+            builder.claim(USER_ID_CLAIM, user.getUserId())
+                    .claim(ROLE_CLAIM, user.getRole().name())
+                    .claim(TEAM_ID_CLAIM, user.getTeamId())
+                    .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        }
+
+        return builder
                 .signWith(key)                          // Sign with secret key (HS256 auto-detected)
                 .compact();                             // Convert to compact string
     }
 
     /**
-     * Extract username from JWT token.
-     * Used after validation to load user from database.
+     * Build the request principal from verified claims.
+     *
+     * @return principal, or null for tokens issued without user claims
      */
-    public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public AuthenticatedUser getPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Number tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Number.class);
 
-        return claims.getSubject();
+        if (userId == null || role == null || tokenVersion == null) {
+            return null;
+        }
+
+        Number teamId = claims.get(TEAM_ID_CLAIM, Number.class);
+        return new AuthenticatedUser(
+                userId.longValue(),
+                claims.getSubject(),
+                Role.valueOf(role),
+                teamId != null ? teamId.longValue() : null,
+                tokenVersion.intValue()
+        );
     }
 
     /**
-     * Validate JWT token.
+     * Validate JWT token and return its claims in a single parse.
      * 
      * Validation checks:
      * 1. Signature matches (token not tampered)
      * 2. Token not expired
      * 3. Claims structure valid
      * 
-     * @return true if valid, false otherwise
+     * @return verified claims, or null if the token is invalid
      */
-    public boolean validateToken(String token) {
+    public Claims parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            log.debug("JWT claims string is empty");
+            return null;
+        }
+
+        String tokenHash = sha256(token);
+        Claims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);  // Throws exception if invalid
-            
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();  // Throws exception if invalid
+            verifiedTokens.put(tokenHash, claims);
+            return claims;
         } catch (SecurityException ex) {
             // Invalid signature
-            System.err.println("Invalid JWT signature: " + ex.getMessage());
+            log.warn("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
             // Invalid token structure
-            System.err.println("Invalid JWT token: " + ex.getMessage());
+            log.debug("Invalid JWT token: {}", ex.getMessage());
         } catch (ExpiredJwtException ex) {
             // Token expired
-            System.err.println("Expired JWT token: " + ex.getMessage());
+            log.debug("Expired JWT token: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
             // Unsupported token
-            System.err.println("Unsupported JWT token: " + ex.getMessage());
+            log.debug("Unsupported JWT token: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             // Empty or null token
-            System.err.println("JWT claims string is empty: " + ex.getMessage());
+            log.debug("JWT claims string is empty: {}", ex.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Extract username from JWT token.
+     */
+    public String getUsernameFromToken(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            throw new MalformedJwtException("Invalid JWT token");
+        }
+        return claims.getSubject();
+    }
+
+    /**
+     * @return true if valid, false otherwise
+     */
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * Cache a verified token until its own expiry, capped at the configured TTL.
+     */
+    private static Duration cacheLifetime(Claims claims, Duration cacheTtl) {
+        if (claims.getExpiration() == null) {
+            return cacheTtl;
+        }
+        long untilExpiryMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(0, Math.min(untilExpiryMs, cacheTtl.toMillis())));
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
         }
-        
-        return false;
     }
 }
@@ -0,0 +1,141 @@
+package com.auction.backend.security;
+
+import com.auction.backend.exception.DomainException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt password encoder that hashes on its own bounded pool.
+ *
+ * BCrypt is slow on purpose (strength 10: ~2^10 key expansions, tens of
+ * milliseconds of CPU per hash). When every team logs in at auction start,
+ * hashing inline on request threads would take every core and delay the
+ * bids and polls already in flight.
+ *
+ * Key Design Decisions:
+ * - At most hash-threads hashes run at once, so the rest of the CPU stays
+ *   with the bid lanes and request handling.
+ * - Callers wait for their hash (cheap on a virtual request thread); at
+ *   most hash-queue-capacity hashes wait. Beyond that sign-ins are refused
+ *   with Reason.OVERLOADED for the client to retry (back-pressure), rather
+ *   than queueing without bound.
+ * - Used for both register (encode) and login (matches, through
+ *   DaoAuthenticationProvider), including the dummy match Spring Security
+ *   runs for unknown usernames.
+ * - upgradeEncoding reports hashes below the configured strength, so with
+ *   auction.auth.rehash-on-login the login rehashes them (see SecurityConfig).
+ *
+ * Metrics: auction.auth.hash (hashing time, by operation),
+ * auction.auth.hash.wait (time queued) and executor.* tagged name=auth.hash
+ * (queued, active, completed, ...).
+ */
+@Component
+public class OffloadedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+
+    public OffloadedPasswordEncoder(
+            @Value("${auction.auth.bcrypt-strength:10}") int strength,
+            @Value("${auction.auth.hash-threads:0}") int threads,
+            @Value("${auction.auth.hash-queue-capacity:256}") int queueCapacity,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "auth.hash");
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.waitTimer = Timer.builder("auction.auth.hash.wait")
+                .description("Time password hashes wait for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auction.auth.hash")
+                .description("BCrypt hashing time")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Cheap (reads the cost from the hash), so not offloaded.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T offload(Timer timer, Supplier<T> hash) {
+        long queuedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(hash);
+            });
+        } catch (RejectedExecutionException ex) {
+            throw new DomainException(DomainException.Reason.OVERLOADED, "Too many sign-ins at once, please retry");
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
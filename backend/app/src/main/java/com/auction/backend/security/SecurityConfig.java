@@ -1,5 +1,6 @@
 package com.auction.backend.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,8 +10,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -45,36 +44,28 @@ public class SecurityConfig {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
-    /**
-     * Password encoder bean - BCrypt hashing algorithm.
-     * 
-     * BCrypt Features:
-     * - Automatic salt generation (prevents rainbow table attacks)
-     * - Adaptive (can increase rounds as hardware improves)
-     * - One-way hash (cannot decrypt)
-     * - Slow by design (prevents brute force)
-     * 
-     * Default strength: 10 rounds
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     /**
      * Authentication manager - entry point for authentication.
      * 
      * Used in AuthService.login() to authenticate credentials.
      * Spring Security 7 requires UserDetailsService in constructor.
+     * 
+     * Passwords are checked by OffloadedPasswordEncoder (BCrypt on a bounded pool).
+     * With auction.auth.rehash-on-login, a successful login whose stored hash
+     * is below the configured BCrypt strength stores a new hash at that strength.
      */
     @Bean
     public AuthenticationManager authenticationManager(
-            UserDetailsService userDetailsService,
-            PasswordEncoder passwordEncoder) {
+            CustomUserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder,
+            @Value("${auction.auth.rehash-on-login:false}") boolean rehashOnLogin) {
         
         // In Spring Security 7, constructor requires UserDetailsService
         var authProvider = new DaoAuthenticationProvider(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        if (rehashOnLogin) {
+            authProvider.setUserDetailsPasswordService(userDetailsService);
+        }
         
         return new ProviderManager(List.of(authProvider));
     }
@@ -104,7 +95,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Public endpoints (no authentication required)
                         .requestMatchers("/graphql").permitAll()
+                        .requestMatchers("/graphql-ws").permitAll()
                         .requestMatchers("/graphiql/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/prometheus").permitAll() // scraper; only served on management.server.port
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         
                         // All other requests require authentication
                         .anyRequest().authenticated()
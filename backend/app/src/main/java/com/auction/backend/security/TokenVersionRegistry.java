@@ -0,0 +1,97 @@
+package com.auction.backend.security;
+
+import com.auction.backend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * In-memory token revocation check.
+ *
+ * Tokens carry the user's token version; a token is accepted only while it
+ * matches the current one. Each user's version is read from the database
+ * once (first request after startup) and then kept up to date by
+ * AuthService when tokens are revoked, so the check costs a map lookup.
+ *
+ * Key Design Decisions:
+ * - The database is queried outside any map lock (get, load, putIfAbsent):
+ *   computeIfAbsent would hold the bin lock across JDBC, pinning the
+ *   virtual thread's carrier and blocking other users in the same bin.
+ *   Two first requests may both load; the first stored value wins, and a
+ *   concurrent update() is never overwritten.
+ * - Unknown users are remembered for unknown-user-ttl (bounded), so tokens
+ *   for deleted or made-up ids do not query the database on every request.
+ *
+ * Note: the map is per instance. With several instances, revocation must
+ * also be broadcast to the others.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final long MAX_UNKNOWN_USERS = 10_000;
+
+    private final ConcurrentMap<Long, Integer> versions = new ConcurrentHashMap<>();
+    private final Cache<Long, Boolean> unknownUsers;
+    private final Function<Long, Integer> loader;
+
+    @Autowired
+    public TokenVersionRegistry(
+            UserRepository userRepository,
+            @Value("${auction.auth.unknown-user-ttl:30s}") Duration unknownUserTtl
+    ) {
+        this(userId -> userRepository.findTokenVersionById(userId).orElse(null), unknownUserTtl);
+    }
+
+    /**
+     * @param loader current version of a user, or null if the user does not exist
+     * @param unknownUserTtl how long a user the loader did not find is remembered
+     */
+    public TokenVersionRegistry(Function<Long, Integer> loader, Duration unknownUserTtl) {
+        this.loader = loader;
+        this.unknownUsers = Caffeine.newBuilder()
+                .maximumSize(MAX_UNKNOWN_USERS)
+                .expireAfterWrite(unknownUserTtl)
+                .build();
+    }
+
+    /**
+     * @return true if a token with this version is still valid for the user
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        Integer current = versions.get(userId);
+        if (current == null) {
+            current = load(userId);
+        }
+        return current != null && current == tokenVersion;
+    }
+
+    /**
+     * Record a user's new version (call after it has been committed).
+     */
+    public void update(Long userId, int tokenVersion) {
+        versions.put(userId, tokenVersion);
+        unknownUsers.invalidate(userId);
+    }
+
+    private Integer load(Long userId) {
+        if (unknownUsers.getIfPresent(userId) != null) {
+            return null;
+        }
+
+        Integer loaded = loader.apply(userId);
+        if (loaded == null) {
+            unknownUsers.put(userId, Boolean.TRUE);
+            return null;
+        }
+
+        Integer raced = versions.putIfAbsent(userId, loaded);
+        return raced != null ? raced : loaded;
+    }
+}
@@ -1,35 +1,65 @@
 package com.auction.backend.service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.auction.backend.domain.Auction;
 import com.auction.backend.domain.AuctionPlayer;
 import com.auction.backend.domain.AuctionPlayerStatus;
 import com.auction.backend.domain.AuctionStatus;
 import com.auction.backend.domain.Player;
+import com.auction.backend.engine.BidEngine;
+import com.auction.backend.event.AuctionPlayerChangedEvent;
+import com.auction.backend.event.BiddingClosedEvent;
 import com.auction.backend.exception.DomainException;
+import com.auction.backend.readmodel.AuctionStateStore;
 import com.auction.backend.repository.AuctionPlayerRepository;
 import com.auction.backend.repository.AuctionRepository;
 import com.auction.backend.repository.PlayerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
 public class AuctionPlayerService {
     private final AuctionRepository auctionRepository;
     private final PlayerRepository playerRepository;
     private final AuctionPlayerRepository auctionPlayerRepository;
+    private final BidEngine bidEngine;
+    private final AuctionStateStore auctionStates;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     public AuctionPlayerService(
             AuctionRepository auctionRepository,
             PlayerRepository playerRepository,
-            AuctionPlayerRepository auctionPlayerRepository
+            AuctionPlayerRepository auctionPlayerRepository,
+            BidEngine bidEngine,
+            AuctionStateStore auctionStates,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
     ) {
         this.auctionRepository = auctionRepository;
         this.playerRepository = playerRepository;
         this.auctionPlayerRepository = auctionPlayerRepository;
+        this.bidEngine = bidEngine;
+        this.auctionStates = auctionStates;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -57,19 +87,87 @@ public class AuctionPlayerService {
         }
 
         AuctionPlayer auctionPlayer =
-                new AuctionPlayer(auction, player, basePrice);
+                auctionPlayerRepository.save(new AuctionPlayer(auction, player, basePrice));
 
-        return auctionPlayerRepository.save(auctionPlayer);
+        eventPublisher.publishEvent(new AuctionPlayerChangedEvent(auctionPlayer));
+        return auctionPlayer;
+    }
+
+    /**
+     * A player to schedule, for addPlayersToAuction.
+     */
+    public record NewAuctionPlayer(Long playerId, BigDecimal basePrice) {
+    }
+
+    /**
+     * Schedule many players at once: all or none.
+     *
+     * The players are loaded with one query and the rows go out as batched
+     * inserts, instead of a round trip per player. A player listed twice, or
+     * already in the auction, rejects the whole request.
+     *
+     * @return the created rows, in the order of the entries
+     */
+    @Transactional
+    public List<AuctionPlayer> addPlayersToAuction(Long auctionId, List<NewAuctionPlayer> entries) {
+
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new DomainException("Auction not found"));
+
+        if (auction.getStatus() != AuctionStatus.LIVE) {
+            throw new DomainException("Players can only be added to a LIVE auction");
+        }
+
+        if (entries.isEmpty()) {
+            throw new DomainException("No players to add");
+        }
+
+        Set<Long> playerIds = new LinkedHashSet<>();
+        for (NewAuctionPlayer entry : entries) {
+            if (entry.playerId() == null) {
+                throw new DomainException("Player not found");
+            }
+            if (!playerIds.add(entry.playerId())) {
+                throw new DomainException("Player " + entry.playerId() + " is listed more than once");
+            }
+            if (entry.basePrice() == null || entry.basePrice().compareTo(BigDecimal.ZERO) <= 0) {
+                throw new DomainException("Base price must be greater than zero");
+            }
+        }
+
+        Map<Long, Player> players = playerRepository.findAllById(playerIds).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        if (players.size() != playerIds.size()) {
+            List<Long> missing = playerIds.stream().filter(id -> !players.containsKey(id)).toList();
+            throw new DomainException("Players not found: " + missing);
+        }
+
+        List<Long> scheduled = auctionPlayerRepository.findScheduledPlayerIds(auctionId, playerIds);
+        if (!scheduled.isEmpty()) {
+            throw new DomainException("Players already in this auction: " + scheduled);
+        }
+
+        List<AuctionPlayer> auctionPlayers = new ArrayList<>(entries.size());
+        for (NewAuctionPlayer entry : entries) {
+            auctionPlayers.add(new AuctionPlayer(auction, players.get(entry.playerId()), entry.basePrice()));
+        }
+        List<AuctionPlayer> saved = auctionPlayerRepository.saveAll(auctionPlayers);
+
+        saved.forEach(auctionPlayer -> eventPublisher.publishEvent(new AuctionPlayerChangedEvent(auctionPlayer)));
+        return saved;
     }
 
     /**
      * Start bidding for a specific auction player.
-     * Enforces: only ONE LIVE AuctionPlayer per auction.
+     * Enforces: only ONE LIVE AuctionPlayer per auction, through the
+     * auction's current player pointer (compare-and-set, constant time).
      */
     @Transactional
     public AuctionPlayer startAuctionPlayer(Long auctionPlayerId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
 
-        AuctionPlayer auctionPlayer = auctionPlayerRepository.findById(auctionPlayerId)
+        AuctionPlayer auctionPlayer = auctionPlayerRepository.findWithAuctionAndPlayerById(auctionPlayerId)
                 .orElseThrow(() -> new DomainException("AuctionPlayer not found"));
 
         Auction auction = auctionPlayer.getAuction();
@@ -78,21 +176,84 @@ public class AuctionPlayerService {
             throw new DomainException("Auction is not LIVE");
         }
 
-        // Enforce: only one LIVE AuctionPlayer per auction
-        List<AuctionPlayer> auctionPlayers =
-                auctionPlayerRepository.findByAuctionId(auction.getId());
-
-        boolean anotherLiveExists = auctionPlayers.stream()
-                .anyMatch(ap ->
-                        ap.getStatus() == AuctionPlayerStatus.LIVE
-                                && !ap.getId().equals(auctionPlayerId)
-                );
+        auctionPlayer.start(bidEngine.initialDeadline(Instant.now()));
 
-        if (anotherLiveExists) {
+        // Concurrent starts serialize on the auction row; the loser matches no row
+        if (auctionRepository.claimCurrentAuctionPlayer(auction.getId(), auctionPlayer) == 0) {
             throw new DomainException("Another player is already being auctioned");
         }
 
-        auctionPlayer.start();
+        // Before the engine opens, so the read model has the player when the first bid lands
+        auctionStates.playerStarted(auctionPlayer);
+
+        // Hand the player to the bid engine once it is visible as LIVE
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bidEngine.open(auctionPlayer);
+            }
+        });
+
+        eventPublisher.publishEvent(new AuctionPlayerChangedEvent(auctionPlayer));
+        recordTransition(sample, auctionPlayer);
         return auctionPlayer;
     }
+
+    /**
+     * Timer ran out: SOLD to the leading team, or UNSOLD if nobody bid.
+     * The engine only publishes this once every accepted bid is persisted,
+     * so the row holds the final price and leader.
+     */
+    @EventListener
+    @Transactional
+    public void closeAuctionPlayer(BiddingClosedEvent event) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        AuctionPlayer auctionPlayer = auctionPlayerRepository.findWithPlayerById(event.auctionPlayerId())
+                .orElse(null);
+
+        if (auctionPlayer == null || auctionPlayer.getStatus() != AuctionPlayerStatus.LIVE) {
+            return; // already closed
+        }
+
+        if (auctionPlayer.getTimerEndAt() != null && auctionPlayer.getTimerEndAt().isAfter(Instant.now())) {
+            return; // bidding was reopened by a later bid
+        }
+
+        auctionRepository.releaseCurrentAuctionPlayer(auctionPlayer.getAuction().getId(), auctionPlayer.getId());
+
+        if (auctionPlayer.getCurrentHighestBidTeam() != null) {
+            auctionPlayer.markSold(auctionPlayer.getCurrentHighestBidTeam(), auctionPlayer.getCurrentPrice());
+            auctionPlayer.getPlayer().markSold();
+        } else {
+            auctionPlayer.markUnsold();
+            auctionPlayer.getPlayer().markUnsold();
+        }
+
+        auctionStates.playerClosed(auctionPlayer);
+
+        eventPublisher.publishEvent(new AuctionPlayerChangedEvent(auctionPlayer));
+        recordTransition(sample, auctionPlayer);
+    }
+
+    /**
+     * auction.player.transitions: players going LIVE, SOLD or UNSOLD, and the time it took.
+     */
+    private void recordTransition(Timer.Sample sample, AuctionPlayer auctionPlayer) {
+        sample.stop(Timer.builder("auction.player.transitions")
+                .description("AuctionPlayer status changes")
+                .tag("status", auctionPlayer.getStatus().name())
+                .register(meterRegistry));
+    }
+
+    /**
+     * Re-arm the timers of players that were LIVE when the application stopped.
+     * Deadlines that passed in the meantime expire right away.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void resumeLiveAuctionPlayers() {
+        auctionPlayerRepository.findByStatus(AuctionPlayerStatus.LIVE)
+                .forEach(bidEngine::open);
+    }
 }
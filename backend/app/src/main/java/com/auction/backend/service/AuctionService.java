@@ -2,8 +2,11 @@ package com.auction.backend.service;
 
 import com.auction.backend.domain.Auction;
 import com.auction.backend.domain.AuctionStatus;
+import com.auction.backend.event.AuctionStateChangedEvent;
 import com.auction.backend.exception.DomainException;
+import com.auction.backend.readmodel.AuctionStateStore;
 import com.auction.backend.repository.AuctionRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,9 +14,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuctionService {
 
     private final AuctionRepository auctionRepository;
-
-    public AuctionService(AuctionRepository auctionRepository) {
+    private final AuctionStateStore auctionStates;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AuctionService(
+            AuctionRepository auctionRepository,
+            AuctionStateStore auctionStates,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.auctionRepository = auctionRepository;
+        this.auctionStates = auctionStates;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -22,8 +33,10 @@ public class AuctionService {
      */
     @Transactional
     public Auction createAuction() {
-        Auction auction = new Auction();
-        return auctionRepository.save(auction);
+        Auction auction = auctionRepository.save(new Auction());
+        auctionStates.auctionChanged(auction);
+        eventPublisher.publishEvent(new AuctionStateChangedEvent(auction));
+        return auction;
     }
 
     /**
@@ -41,6 +54,8 @@ public class AuctionService {
         }
 
         auction.start();
+        auctionStates.auctionChanged(auction);
+        eventPublisher.publishEvent(new AuctionStateChangedEvent(auction));
         return auction;
     }
 }
\ No newline at end of file
@@ -6,16 +6,21 @@ import com.auction.backend.domain.User;
 import com.auction.backend.exception.DomainException;
 import com.auction.backend.repository.TeamRepository;
 import com.auction.backend.repository.UserRepository;
+import com.auction.backend.security.CustomUserDetailsService;
 import com.auction.backend.security.JwtTokenProvider;
+import com.auction.backend.security.TokenVersionRegistry;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Authentication Service - Business logic for user authentication.
@@ -29,6 +34,8 @@ import org.springframework.transaction.annotation.Transactional;
  * Transaction Management:
  * - @Transactional ensures database consistency
  * - Rollback on exceptions
+ * - Password hashing (OffloadedPasswordEncoder) happens outside any
+ *   transaction: a sign-in waiting for a hashing thread holds no connection
  */
 @Service
 public class AuthService {
@@ -38,19 +45,28 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionRegistry tokenVersions;
+    private final CustomUserDetailsService userDetailsService;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthService(
             UserRepository userRepository,
             TeamRepository teamRepository,
             PasswordEncoder passwordEncoder,
             AuthenticationManager authenticationManager,
-            JwtTokenProvider jwtTokenProvider
+            JwtTokenProvider jwtTokenProvider,
+            TokenVersionRegistry tokenVersions,
+            CustomUserDetailsService userDetailsService,
+            PlatformTransactionManager transactionManager
     ) {
         this.userRepository = userRepository;
         this.teamRepository = teamRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenVersions = tokenVersions;
+        this.userDetailsService = userDetailsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -72,9 +88,16 @@ public class AuthService {
      * @param teamId Required for TEAM_USER
      * @return Created user (password already hashed)
      */
-    @Transactional
     public User register(String username, String password, String email, Role role, Long teamId) {
-        
+        // Hash password using BCrypt
+        // Result format: $2a$10$slYQmyNdGzTn7ZLBXBChFOC9f6kFjAqPhccnP6DxlWXx2lPk1C3G6
+        // $2a$ = algorithm, $10$ = rounds, next 22 chars = salt, rest = hash
+        String hashedPassword = passwordEncoder.encode(password);
+
+        return transactionTemplate.execute(status -> createUser(username, hashedPassword, email, role, teamId));
+    }
+
+    private User createUser(String username, String hashedPassword, String email, Role role, Long teamId) {
         // Validation: Check uniqueness
         if (userRepository.existsByUsername(username)) {
             throw new DomainException("Username already exists");
@@ -94,14 +117,13 @@ public class AuthService {
                     .orElseThrow(() -> new DomainException("Team not found"));
         }
 
-        // Hash password using BCrypt
-        // Result format: $2a$10$slYQmyNdGzTn7ZLBXBChFOC9f6kFjAqPhccnP6DxlWXx2lPk1C3G6
-        // $2a$ = algorithm, $10$ = rounds, next 22 chars = salt, rest = hash
-        String hashedPassword = passwordEncoder.encode(password);
-
         // Create and save user
         User user = new User(username, hashedPassword, email, role, team);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+
+        // Login must see the new account, not a stale cache entry
+        afterCommit(() -> userDetailsService.evict(username));
+        return saved;
     }
 
     /**
@@ -122,11 +144,14 @@ public class AuthService {
      * to avoid revealing whether username or password was wrong
      * (prevents username enumeration attacks).
      * 
+     * No transaction: the account is read by its own short query, then the
+     * password check may wait for a hashing thread without holding a connection.
+     * 
      * @param username Username to authenticate
      * @param password Plain text password
      * @return JWT token string
+     * @throws DomainException OVERLOADED when too many sign-ins wait for hashing (retry later)
      */
-    @Transactional(readOnly = true)
     public String login(String username, String password) {
         try {
             // Create authentication request
@@ -140,6 +165,8 @@ public class AuthService {
             // Generate and return JWT token
             return jwtTokenProvider.generateToken(authentication);
             
+        } catch (DomainException e) {
+            throw e; // overloaded: not a credentials problem
         } catch (Exception e) {
             // Generic error message (don't reveal if username exists)
             throw new DomainException("Invalid username or password");
@@ -151,6 +178,8 @@ public class AuthService {
      * 
      * Used by GraphQL resolver for "me" query.
      * Extracts username from SecurityContext and loads from database.
+     * The principal is either the JWT principal or, right after login, UserDetails;
+     * both expose the username as the authentication name.
      * 
      * @return Current user
      */
@@ -162,9 +191,41 @@ public class AuthService {
             throw new DomainException("Not authenticated");
         }
 
-        String username = ((UserDetails) authentication.getPrincipal()).getUsername();
+        String username = authentication.getName();
         
-        return userRepository.findByUsername(username)
+        // Callers return the user to GraphQL, which may select its team
+        return userRepository.findWithTeamByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
     }
+
+    /**
+     * Invalidate every token issued to a user so far.
+     * 
+     * Must be called whenever something embedded in the token changes
+     * (role, team): the user has to log in again to get a token with the new values.
+     */
+    @Transactional
+    public void revokeTokens(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new DomainException("User not found"));
+
+        user.revokeTokens();
+
+        // New logins must embed the new version: drop the cached account too
+        int tokenVersion = user.getTokenVersion();
+        String username = user.getUsername();
+        afterCommit(() -> {
+            tokenVersions.update(userId, tokenVersion);
+            userDetailsService.evict(username);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
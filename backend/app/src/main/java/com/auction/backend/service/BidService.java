@@ -1,81 +1,200 @@
 package com.auction.backend.service;
 
 import com.auction.backend.domain.*;
+import com.auction.backend.engine.AcceptedBid;
+import com.auction.backend.engine.BidEngine;
+import com.auction.backend.engine.BidWriter;
+import com.auction.backend.engine.LiveAuctionPlayer;
+import com.auction.backend.engine.TeamSnapshot;
 import com.auction.backend.exception.DomainException;
 import com.auction.backend.repository.AuctionPlayerRepository;
-import com.auction.backend.repository.BidRepository;
 import com.auction.backend.repository.TeamRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Service
 public class BidService {
 
     private final AuctionPlayerRepository auctionPlayerRepository;
     private final TeamRepository teamRepository;
-    private final BidRepository bidRepository;
+    private final BidEngine bidEngine;
+    private final BidWriter bidWriter;
+    private final MeterRegistry meterRegistry;
+    private final Executor answers;
 
     public BidService(
             AuctionPlayerRepository auctionPlayerRepository,
             TeamRepository teamRepository,
-            BidRepository bidRepository
+            BidEngine bidEngine,
+            BidWriter bidWriter,
+            MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor answers
     ) {
         this.auctionPlayerRepository = auctionPlayerRepository;
         this.teamRepository = teamRepository;
-        this.bidRepository = bidRepository;
+        this.bidEngine = bidEngine;
+        this.bidWriter = bidWriter;
+        this.meterRegistry = meterRegistry;
+        this.answers = answers;
     }
 
-    @Transactional
-    public Bid placeBid(Long auctionPlayerId, Long teamId, BigDecimal amount) {
+    /**
+     * Place a bid.
+     *
+     * Validation and acceptance run on the auction's lane thread against the
+     * in-memory state (no database access), and the accepted bid goes to the
+     * bid event log. The returned future completes as soon as the bid is
+     * logged (forced to disk first under the ALWAYS fsync policy), with the
+     * acknowledged Bid, on a request (virtual) thread rather than an engine
+     * thread, since the rest of the request runs on it.
+     *
+     * BidWriter stores the bid in the background under the same id. If the
+     * row changed outside the engine meanwhile, the stored bid may be
+     * re-priced or rejected: clients learn it from the bidPlaced /
+     * auctionPlayerChanged subscriptions, which carry what was stored
+     * (counted as auction.bids.revised).
+     *
+     * Concurrency (design doc): the earlier bid wins; a later bid that raced
+     * with it for the same price level is recorded as the next valid bid.
+     *
+     * Timer (design doc): bids after timerEndAt are rejected; every valid bid
+     * resets the timer to 30 seconds.
+     *
+     * Metrics: auction.bids, the time until the bid is answered, by outcome
+     * and rejection reason.
+     */
+    public CompletableFuture<Bid> placeBid(Long auctionPlayerId, Long teamId, BigDecimal amount) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            LiveAuctionPlayer auctionPlayer = bidEngine.find(auctionPlayerId);
+            if (auctionPlayer == null) {
+                auctionPlayer = loadLiveAuctionPlayer(auctionPlayerId);
+            }
+
+            TeamSnapshot team = findTeam(teamId);
+
+            // State this bid was placed against (server arrival time)
+            long observedSequence = auctionPlayer.getSequence();
+
+            LiveAuctionPlayer target = auctionPlayer;
+            CompletableFuture<Bid> acknowledged = bidEngine
+                    .submit(target.getAuctionId(), () -> acceptBid(target, team, amount, observedSequence));
+
+            CompletableFuture<Bid> result = new CompletableFuture<>();
+            acknowledged.whenCompleteAsync((bid, failure) -> {
+                record(sample, failure);
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(bid);
+                }
+            }, answers);
+            return result;
+        } catch (RuntimeException ex) {
+            record(sample, ex);
+            throw ex;
+        }
+    }
 
-        AuctionPlayer auctionPlayer = auctionPlayerRepository.findById(auctionPlayerId)
-                .orElseThrow(() -> new DomainException("AuctionPlayer not found"));
+    private void record(Timer.Sample sample, Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        String reason = failure == null ? "none"
+                : failure instanceof DomainException domainException ? domainException.getReason().tag()
+                : "error";
+        sample.stop(Timer.builder("auction.bids")
+                .description("Bids from arrival to answer")
+                .tag("outcome", failure == null ? "accepted" : "rejected")
+                .tag("reason", reason)
+                .register(meterRegistry));
+    }
 
-        if (auctionPlayer.getStatus() != AuctionPlayerStatus.LIVE) {
-            throw new DomainException("Bidding is not open for this player");
+    /**
+     * Runs on the lane thread: validate against the authoritative state and,
+     * if the bid is valid, log it and make it the leading bid. Logging comes
+     * first, so a bid that cannot be logged leaves the state untouched.
+     *
+     * @return the acknowledged Bid
+     */
+    private Bid acceptBid(
+            LiveAuctionPlayer auctionPlayer,
+            TeamSnapshot team,
+            BigDecimal amount,
+            long observedSequence
+    ) {
+        LiveAuctionPlayer current = bidEngine.find(auctionPlayer.getAuctionPlayerId());
+        if (current != null && current != auctionPlayer) {
+            // Replaced by the stored state since this bid arrived: judge it against that, without race credit
+            auctionPlayer = current;
+            observedSequence = current.getSequence();
         }
 
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new DomainException("Team not found"));
+        Instant now = Instant.now();
+        if (!auctionPlayer.isOpenAt(now)) {
+            throw new DomainException(DomainException.Reason.TIMER_EXPIRED, "Bidding time is over for this player");
+        }
 
         BigDecimal currentPrice = auctionPlayer.getCurrentPrice();
 
-        if (amount.compareTo(currentPrice) <= 0) {
-            throw new DomainException("Bid must be higher than current price");
-        }
+        // Only a bid that competed with exactly the current leading bid raced with it
+        BigDecimal contestedPrice = observedSequence == auctionPlayer.getSequence() - 1
+                ? auctionPlayer.getPreviousPrice()
+                : null;
 
-        validateIncrement(currentPrice, amount);
-
-        if (team.getPurse().compareTo(amount) < 0) {
-            throw new DomainException("Insufficient purse for this bid");
-        }
+        BigDecimal recorded = BidRules.resolveAmount(
+                currentPrice,
+                contestedPrice,
+                auctionPlayer.getLeadingTeamId(),
+                team.id(),
+                team.purse(),
+                amount
+        );
 
         // Create bid (immutable event)
-        Bid bid = new Bid(auctionPlayer, team, amount);
-        bidRepository.save(bid);
-
-        // Update auction player state
-        auctionPlayer.updateCurrentBid(team, amount);
-        auctionPlayerRepository.save(auctionPlayer);
-
-        return bid;
+        Instant timerEndAt = bidEngine.bidDeadline(now);
+        AcceptedBid accepted = new AcceptedBid(
+                auctionPlayer.getAuctionPlayerId(), team.id(), team.version(),
+                currentPrice, recorded, auctionPlayer.getSequence() + 1, timerEndAt, now
+        );
+        long id = bidWriter.write(auctionPlayer.getAuctionId(), accepted);
+
+        auctionPlayer.accept(team.id(), recorded);
+        bidEngine.resetTimer(auctionPlayer, timerEndAt);
+        auctionPlayer.trackWrite(accepted.result());
+        return Bid.acknowledged(id, auctionPlayer.getAuctionPlayerId(), team.id(), recorded, now);
     }
 
-    private void validateIncrement(BigDecimal currentPrice, BigDecimal amount) {
+    private LiveAuctionPlayer loadLiveAuctionPlayer(Long auctionPlayerId) {
+
+        AuctionPlayer auctionPlayer = auctionPlayerRepository.findById(auctionPlayerId)
+                .orElseThrow(() -> new DomainException(DomainException.Reason.NOT_FOUND, "AuctionPlayer not found"));
 
-        BigDecimal increment = amount.subtract(currentPrice);
+        if (auctionPlayer.getStatus() != AuctionPlayerStatus.LIVE) {
+            throw new DomainException(DomainException.Reason.NOT_LIVE, "Bidding is not open for this player");
+        }
 
-        BigDecimal expectedIncrement =
-                currentPrice.compareTo(BigDecimal.valueOf(5)) < 0
-                        ? BigDecimal.valueOf(0.2)
-                        : BigDecimal.valueOf(0.5);
+        return bidEngine.open(auctionPlayer);
+    }
 
-        if (increment.compareTo(expectedIncrement) < 0) {
-            throw new DomainException(
-                    "Minimum increment is " + expectedIncrement
-            );
+    private TeamSnapshot findTeam(Long teamId) {
+        TeamSnapshot cached = bidEngine.findTeam(teamId);
+        if (cached != null) {
+            return cached;
         }
+
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new DomainException(DomainException.Reason.NOT_FOUND, "Team not found"));
+        bidEngine.cacheTeam(team);
+        return TeamSnapshot.of(team);
     }
 }
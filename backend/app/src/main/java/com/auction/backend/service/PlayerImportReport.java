@@ -0,0 +1,19 @@
+package com.auction.backend.service;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk player import, chunk by chunk.
+ *
+ * Rows are numbered from 1 in file order (CSV: data lines after the header;
+ * JSON: array elements). A chunk is committed as a whole: a rejected row
+ * leaves the rest of its chunk in place, a database failure rejects the chunk.
+ */
+public record PlayerImportReport(int imported, int rejected, List<Chunk> chunks) {
+
+    public record Chunk(int index, long firstRow, long lastRow, int imported, List<RowError> errors) {
+    }
+
+    public record RowError(long row, String message) {
+    }
+}
@@ -0,0 +1,342 @@
+package com.auction.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.exception.DomainException;
+import com.auction.backend.repository.PlayerRepository;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Bulk player import from CSV or JSON.
+ *
+ * Key Design Decisions:
+ * - The input is read incrementally: only the current chunk of rows is in
+ *   memory, whatever the file size.
+ * - Rows are validated exactly like createPlayer; invalid rows are reported
+ *   and skipped.
+ * - Each chunk is saved in its own transaction with batched inserts (pooled
+ *   ids), so a failure only loses that chunk.
+ *
+ * CSV: a header line naming the columns name, category, basePrice (any order);
+ * fields may be double-quoted, but every record is one line: a quoted field
+ * spanning lines is malformed input (the import stops there). JSON: an array
+ * of {name, category, basePrice}.
+ */
+@Service
+public class PlayerImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerImportService.class);
+
+    public enum Format { CSV, JSON }
+
+    private final PlayerRepository playerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final ObjectReader jsonRowReader;
+    private final int chunkSize;
+
+    public PlayerImportService(
+            PlayerRepository playerRepository,
+            PlatformTransactionManager transactionManager,
+            JsonMapper jsonMapper,
+            @Value("${auction.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.playerRepository = playerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = jsonMapper;
+        // One array element at a time: the rest of the array is not "trailing"
+        this.jsonRowReader = jsonMapper.readerFor(JsonRow.class).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Import every row of the input. The reader is consumed but not closed.
+     */
+    public PlayerImportReport importPlayers(Reader reader, Format format) {
+        Iterator<Row> rows = format == Format.CSV ? new CsvRows(reader) : new JsonRows(reader);
+
+        List<PlayerImportReport.Chunk> chunks = new ArrayList<>();
+        int imported = 0;
+        int rejected = 0;
+
+        List<Player> players = new ArrayList<>(chunkSize);
+        List<PlayerImportReport.RowError> errors = new ArrayList<>();
+        long firstRow = 1;
+        long row = 0;
+        boolean more = true;
+
+        while (more) {
+            try {
+                more = rows.hasNext();
+                if (more) {
+                    Row next = rows.next();
+                    row = next.number();
+                    players.add(PlayerService.newPlayer(next.name(), category(next.category()), basePrice(next.basePrice())));
+                }
+            } catch (DomainException ex) {
+                errors.add(new PlayerImportReport.RowError(row, ex.getMessage()));
+            } catch (MalformedInputException ex) {
+                // Cannot find the next row: report and stop reading
+                errors.add(new PlayerImportReport.RowError(++row, ex.getMessage()));
+                more = false;
+            }
+
+            boolean chunkFull = players.size() + errors.size() >= chunkSize;
+            if ((chunkFull || !more) && (!players.isEmpty() || !errors.isEmpty())) {
+                int invalid = errors.size();
+                int saved = save(players, firstRow, errors);
+                chunks.add(new PlayerImportReport.Chunk(chunks.size() + 1, firstRow, row, saved, List.copyOf(errors)));
+                imported += saved;
+                rejected += invalid + players.size() - saved;
+
+                players.clear();
+                errors.clear();
+                firstRow = row + 1;
+            }
+        }
+
+        log.info("Imported {} players ({} rows rejected) in {} chunks", imported, rejected, chunks.size());
+        return new PlayerImportReport(imported, rejected, chunks);
+    }
+
+    /**
+     * @return number of players saved (all or none)
+     */
+    private int save(List<Player> players, long firstRow, List<PlayerImportReport.RowError> errors) {
+        if (players.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                playerRepository.saveAll(players);
+                playerRepository.flush(); // fail here, translated, rather than at commit
+            });
+            return players.size();
+        } catch (DataAccessException ex) {
+            log.warn("Player import chunk starting at row {} failed", firstRow, ex);
+            errors.add(new PlayerImportReport.RowError(firstRow, "Chunk not saved: " + ex.getMostSpecificCause().getMessage()));
+            return 0;
+        }
+    }
+
+    private static PlayerCategory category(String value) {
+        if (value == null || value.isBlank()) {
+            return null; // reported by the shared validation
+        }
+        try {
+            return PlayerCategory.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new DomainException("Unknown player category: " + value.trim());
+        }
+    }
+
+    private static BigDecimal basePrice(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new DomainException("Base price must be a number: " + value.trim());
+        }
+    }
+
+    /**
+     * One input row, before validation. Fields are null when missing.
+     */
+    private record Row(long number, String name, String category, String basePrice) {
+    }
+
+    /**
+     * The input can no longer be read as rows of its format.
+     */
+    private static class MalformedInputException extends RuntimeException {
+        MalformedInputException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class CsvRows implements Iterator<Row> {
+
+        private final BufferedReader reader;
+        private Map<String, Integer> columns;
+        private List<String> pending;
+        private long number;
+
+        CsvRows(Reader reader) {
+            this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null) {
+                if (columns == null) {
+                    List<String> header = readRecord();
+                    if (header == null) {
+                        return false;
+                    }
+                    columns = new HashMap<>();
+                    for (int i = 0; i < header.size(); i++) {
+                        columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+                    }
+                    if (!columns.containsKey("name") || !columns.containsKey("category") || !columns.containsKey("baseprice")) {
+                        throw new MalformedInputException("CSV header must name the columns name, category, basePrice");
+                    }
+                }
+                pending = readRecord();
+            }
+            return pending != null;
+        }
+
+        @Override
+        public Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<String> fields = pending;
+            pending = null;
+            return new Row(++number, field(fields, "name"), field(fields, "category"), field(fields, "baseprice"));
+        }
+
+        private String field(List<String> fields, String column) {
+            int index = columns.get(column);
+            return index < fields.size() ? fields.get(index) : null;
+        }
+
+        /**
+         * Next non-blank line split into fields, or null at end of input.
+         */
+        private List<String> readRecord() {
+            String line;
+            try {
+                do {
+                    line = reader.readLine();
+                } while (line != null && line.isBlank());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return line != null ? split(line) : null;
+        }
+
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                // Records are read line by line: a line break inside quotes would split the row
+                throw new MalformedInputException("Quoted CSV field is not closed on its line "
+                        + "(line breaks inside fields are not supported)");
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    private final class JsonRows implements Iterator<Row> {
+
+        private final JsonParser parser;
+        private boolean started;
+        private Boolean hasNext;
+        private long number;
+
+        JsonRows(Reader reader) {
+            this.parser = jsonMapper.createParser(reader);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasNext == null) {
+                try {
+                    if (!started) {
+                        started = true;
+                        JsonToken first = parser.nextToken();
+                        if (first == null) {
+                            return hasNext = false;
+                        }
+                        if (first != JsonToken.START_ARRAY) {
+                            throw new MalformedInputException("JSON input must be an array of players");
+                        }
+                    }
+                    JsonToken token = parser.nextToken();
+                    if (token == JsonToken.START_OBJECT) {
+                        hasNext = true;
+                    } else if (token == JsonToken.END_ARRAY) {
+                        hasNext = false;
+                    } else {
+                        throw new MalformedInputException("Expected a player object, found " + token);
+                    }
+                } catch (JacksonException ex) {
+                    throw new MalformedInputException("Malformed JSON: " + ex.getOriginalMessage());
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = null;
+            try {
+                JsonRow row = jsonRowReader.readValue(parser);
+                return new Row(++number, row.name(), row.category(), row.basePrice());
+            } catch (JacksonException ex) {
+                throw new MalformedInputException("Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record JsonRow(String name, String category, String basePrice) {
+    }
+}
@@ -23,6 +23,13 @@ public class PlayerService {
     @Transactional
     public Player createPlayer(String name, PlayerCategory category, BigDecimal basePrice)
     {
+        return playerRepository.save(newPlayer(name, category, basePrice));
+    }
+
+    /**
+     * Validated, not yet saved player (shared with PlayerImportService).
+     */
+    static Player newPlayer(String name, PlayerCategory category, BigDecimal basePrice) {
         if (name == null || name.trim().isEmpty()) {
             throw new DomainException("Player name must not be empty");
         }
@@ -33,8 +40,7 @@ public class PlayerService {
             throw new DomainException("Base price must be greater than zero");
         }
 
-        Player player = new Player(name.trim(), category, basePrice);
-        return playerRepository.save(player);
+        return new Player(name.trim(), category, basePrice);
     }
 
     @Transactional(readOnly = true)
@@ -3,19 +3,30 @@ package com.auction.backend.service;
 import java.math.BigDecimal;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.auction.backend.domain.Team;
+import com.auction.backend.event.TeamChangedEvent;
 import com.auction.backend.exception.DomainException;
+import com.auction.backend.readmodel.AuctionStateStore;
 import com.auction.backend.repository.TeamRepository;
 
 @Service
 public class TeamService {
     private final TeamRepository teamRepository;
-
-    public TeamService(TeamRepository teamRepository) {
+    private final AuctionStateStore auctionStates;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TeamService(
+            TeamRepository teamRepository,
+            AuctionStateStore auctionStates,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.teamRepository = teamRepository;
+        this.auctionStates = auctionStates;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -33,9 +44,12 @@ public class TeamService {
             throw new DomainException("Team with this name already exists");
         }
 
-        return teamRepository.save(
+        Team team = teamRepository.save(
                 new Team(name.trim(), purse, 25)
         );
+        auctionStates.teamAdded(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(team.getId()));
+        return team;
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,49 @@
+package com.auction.backend.web;
+
+import com.auction.backend.service.PlayerImportReport;
+import com.auction.backend.service.PlayerImportService;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bulk player import as a file upload (admins only):
+ *
+ *   curl -H "Authorization: Bearer $TOKEN" -F file=@players.csv \
+ *        "http://localhost:8080/api/players/import?format=CSV"
+ *
+ * The upload is spooled to disk by the servlet container (up to
+ * spring.servlet.multipart.max-file-size) and streamed from there into
+ * PlayerImportService, so the file is never held in memory as a whole.
+ * The response is the same report as the importPlayers mutation. CSV records
+ * are one line each: quoted fields may not contain line breaks.
+ */
+@RestController
+public class PlayerImportController {
+
+    private final PlayerImportService playerImportService;
+
+    public PlayerImportController(PlayerImportService playerImportService) {
+        this.playerImportService = playerImportService;
+    }
+
+    @PostMapping(path = "/api/players/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public PlayerImportReport importPlayers(
+            @RequestParam PlayerImportService.Format format,
+            @RequestPart MultipartFile file
+    ) throws IOException {
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            return playerImportService.importPlayers(reader, format);
+        }
+    }
+}
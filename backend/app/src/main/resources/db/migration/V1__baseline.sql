@@ -0,0 +1,73 @@
+-- Schema behind the entities in com.auction.backend.domain as the project started out
+-- (ids from auto-increment columns). Each later change ships as its own migration.
+--
+-- Upgrading a database created before Flyway: it already holds this schema, so this script
+-- must not run there. With spring.flyway.baseline-on-migrate, the first start finds no history
+-- table, records version 1 as the baseline and applies V2 onwards (the id sequences start past
+-- the rows already stored). Take a backup first; nothing else is needed.
+
+create table teams (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    purse decimal(10,2) not null,
+    max_squad_size integer not null,
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint uk_teams_name unique (name)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    username varchar(50) not null,
+    email varchar(100) not null,
+    password varchar(255) not null,
+    role enum ('ADMIN','TEAM_USER') not null,
+    team_id bigint,
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email),
+    constraint fk_users_team foreign key (team_id) references teams (id)
+) engine=InnoDB;
+
+create table players (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    category enum ('AR','BAT','BOWL','WK') not null,
+    base_price decimal(10,2) not null,
+    status enum ('AVAILABLE','SOLD','UNSOLD') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table auctions (
+    id bigint not null auto_increment,
+    status enum ('CREATED','FINISHED','LIVE') not null,
+    created_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table auction_players (
+    id bigint not null auto_increment,
+    auction_id bigint not null,
+    player_id bigint not null,
+    base_price decimal(10,2) not null,
+    current_price decimal(10,2) not null,
+    status enum ('LIVE','NOT_STARTED','SOLD','UNSOLD') not null,
+    current_highest_bid_team_id bigint,
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint fk_auction_players_auction foreign key (auction_id) references auctions (id),
+    constraint fk_auction_players_player foreign key (player_id) references players (id),
+    constraint fk_auction_players_team foreign key (current_highest_bid_team_id) references teams (id)
+) engine=InnoDB;
+
+create table bids (
+    id bigint not null auto_increment,
+    auction_player_id bigint not null,
+    team_id bigint not null,
+    amount decimal(10,2) not null,
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint fk_bids_auction_player foreign key (auction_player_id) references auction_players (id),
+    constraint fk_bids_team foreign key (team_id) references teams (id)
+) engine=InnoDB;
@@ -0,0 +1,7 @@
+-- Versioned rows for optimistic concurrency on the bid path (AuctionPlayer, Team)
+
+alter table teams add column version bigint;
+update teams set version = 0;
+
+alter table auction_players add column version bigint;
+update auction_players set version = 0;
@@ -0,0 +1,3 @@
+-- Server-side bidding deadline of a LIVE player (null otherwise)
+
+alter table auction_players add column timer_end_at datetime(6);
@@ -0,0 +1,3 @@
+-- Version carried by a user's tokens; bumping it revokes every token issued before
+
+alter table users add column token_version integer not null default 0;
@@ -0,0 +1,35 @@
+-- Ids come from table-backed sequences (Hibernate's emulation on MySQL), allocated 50 at a time,
+-- so inserts can be batched. Bid ids are assigned by the bid engine (see BidWriter).
+-- Each sequence starts past the ids already in use, with room for a pooled block.
+-- The id columns keep auto_increment: every insert now supplies its id, and changing a column
+-- that foreign keys reference would need them disabled.
+
+create table teams_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into teams_seq (next_val) select coalesce(max(id), 0) + 51 from teams;
+
+create table users_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into users_seq (next_val) select coalesce(max(id), 0) + 51 from users;
+
+create table players_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into players_seq (next_val) select coalesce(max(id), 0) + 51 from players;
+
+create table auctions_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into auctions_seq (next_val) select coalesce(max(id), 0) + 51 from auctions;
+
+create table auction_players_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into auction_players_seq (next_val) select coalesce(max(id), 0) + 51 from auction_players;
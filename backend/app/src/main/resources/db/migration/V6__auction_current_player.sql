@@ -0,0 +1,17 @@
+-- Pointer to an auction's LIVE player: at most one per auction, set by a conditional update
+
+alter table auctions add column current_auction_player_id bigint;
+
+alter table auctions
+    add constraint uk_auctions_current_auction_player unique (current_auction_player_id);
+
+alter table auctions
+    add constraint fk_auctions_current_auction_player
+    foreign key (current_auction_player_id) references auction_players (id);
+
+-- Players already LIVE become their auction's current player
+update auctions a
+set current_auction_player_id = (
+    select max(ap.id) from auction_players ap
+    where ap.auction_id = a.id and ap.status = 'LIVE'
+);
@@ -0,0 +1,5 @@
+-- Board of an auction, and its players in a given status
+create index idx_auction_players_auction_status on auction_players (auction_id, status);
+
+-- Bid history of a player, already in order
+create index idx_bids_auction_player_created on bids (auction_player_id, created_at);
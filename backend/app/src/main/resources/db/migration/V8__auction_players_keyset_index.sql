@@ -0,0 +1,4 @@
+-- Board pages seek on id within an auction: where auction_id = ? and id > ? order by id.
+-- (auction_id, status) cannot serve that order, and MySQL reuses it as the foreign key's index
+-- instead of creating one on auction_id alone.
+create index idx_auction_players_auction_id on auction_players (auction_id, id);
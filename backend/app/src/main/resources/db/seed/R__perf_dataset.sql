@@ -0,0 +1,116 @@
+-- Synthetic dataset for load tests and benchmarks (profile "seed", see application-seed.yml).
+-- Generated with set-based SQL: ${seed-teams} teams with one user each, ${seed-players} players spread
+-- over ${seed-auctions} auctions, ${seed-bids-per-player} bids on every sold player.
+--
+-- Shape: every auction is FINISHED except the last, which is LIVE with its players NOT_STARTED.
+-- Purses and squad sizes are not balanced against the sales.
+--
+-- Seeded rows take ids from 1000000000 up and the sequences are moved past them, so everything
+-- created afterwards lands in that range too. Flyway re-runs this script when it (or a size) changes:
+-- it first deletes every row in the range.
+-- Users: seed_admin (ADMIN) and seed_team_<n> (TEAM_USER), password "password".
+
+update auctions set current_auction_player_id = null
+where id >= 1000000000 or current_auction_player_id >= 1000000000;
+
+delete from bids
+where id >= 1000000000 or auction_player_id >= 1000000000 or team_id >= 1000000000;
+
+delete from auction_players
+where id >= 1000000000 or auction_id >= 1000000000 or player_id >= 1000000000
+   or current_highest_bid_team_id >= 1000000000;
+
+delete from auctions where id >= 1000000000;
+delete from players where id >= 1000000000;
+delete from users where id >= 1000000000 or team_id >= 1000000000;
+delete from teams where id >= 1000000000;
+
+-- 0..99999
+drop table if exists seed_digits;
+create table seed_digits (d integer not null primary key);
+insert into seed_digits (d) values (0), (1), (2), (3), (4), (5), (6), (7), (8), (9);
+
+drop table if exists seed_numbers;
+create table seed_numbers (n integer not null primary key);
+insert into seed_numbers (n)
+select a.d + 10 * b.d + 100 * c.d + 1000 * e.d + 10000 * f.d
+from seed_digits a
+cross join seed_digits b
+cross join seed_digits c
+cross join seed_digits e
+cross join seed_digits f;
+
+insert into teams (id, name, purse, max_squad_size, created_at, version)
+select 1000000000 + n, concat('Seed Team ', n), 100000.00, 25, timestamp '2025-01-01 00:00:00', 0
+from seed_numbers
+where n < ${seed-teams};
+
+insert into users (id, username, email, password, role, team_id, token_version, created_at)
+select 1000000000 + n, concat('seed_team_', n), concat('seed_team_', n, '@example.com'),
+       '$2a$10$U/4qG1p08ZOorcmebIHFF.yME9hCuDyDTgzbTfQj0mICiVtzdZ3dy', 'TEAM_USER', 1000000000 + n, 0,
+       timestamp '2025-01-01 00:00:00'
+from seed_numbers
+where n < ${seed-teams};
+
+insert into users (id, username, email, password, role, team_id, token_version, created_at)
+values (1000000000 + ${seed-teams}, 'seed_admin', 'seed_admin@example.com',
+        '$2a$10$U/4qG1p08ZOorcmebIHFF.yME9hCuDyDTgzbTfQj0mICiVtzdZ3dy', 'ADMIN', null, 0,
+        timestamp '2025-01-01 00:00:00');
+
+insert into auctions (id, status, created_at, current_auction_player_id)
+select 1000000000 + n,
+       case when n = ${seed-auctions} - 1 then 'LIVE' else 'FINISHED' end,
+       timestampadd(day, n, timestamp '2025-01-01 00:00:00'),
+       null
+from seed_numbers
+where n < ${seed-auctions};
+
+-- Player n is auctioned in auction n mod auctions
+insert into players (id, name, category, base_price, status)
+select 1000000000 + n,
+       concat('Seed Player ', n),
+       case mod(n, 4) when 0 then 'BAT' when 1 then 'BOWL' when 2 then 'AR' else 'WK' end,
+       1.00 + mod(n, 20) * 0.50,
+       case when mod(n, ${seed-auctions}) = ${seed-auctions} - 1 then 'AVAILABLE' else 'SOLD' end
+from seed_numbers
+where n < ${seed-players};
+
+insert into auction_players (id, auction_id, player_id, base_price, current_price, status,
+                             current_highest_bid_team_id, created_at, timer_end_at, version)
+select 1000000000 + n,
+       1000000000 + mod(n, ${seed-auctions}),
+       1000000000 + n,
+       1.00 + mod(n, 20) * 0.50,
+       case when mod(n, ${seed-auctions}) = ${seed-auctions} - 1 then 1.00 + mod(n, 20) * 0.50
+            else 1.00 + mod(n, 20) * 0.50 + ${seed-bids-per-player} * 0.20 end,
+       case when mod(n, ${seed-auctions}) = ${seed-auctions} - 1 then 'NOT_STARTED' else 'SOLD' end,
+       case when mod(n, ${seed-auctions}) = ${seed-auctions} - 1 then null
+            else 1000000000 + mod(n + ${seed-bids-per-player} - 1, ${seed-teams}) end,
+       timestampadd(day, mod(n, ${seed-auctions}), timestamp '2025-01-01 00:00:00'),
+       null,
+       0
+from seed_numbers
+where n < ${seed-players};
+
+-- Bid k on a sold player: rising by 0.20 a second, teams taking turns; the last one is the buyer
+insert into bids (id, auction_player_id, team_id, amount, created_at)
+select 1000000000 + p.n * ${seed-bids-per-player} + k.n,
+       1000000000 + p.n,
+       1000000000 + mod(p.n + k.n, ${seed-teams}),
+       1.00 + mod(p.n, 20) * 0.50 + (k.n + 1) * 0.20,
+       timestampadd(second, k.n, timestampadd(day, mod(p.n, ${seed-auctions}), timestamp '2025-01-01 00:00:00'))
+from seed_numbers p
+cross join seed_numbers k
+where p.n < ${seed-players}
+  and mod(p.n, ${seed-auctions}) < ${seed-auctions} - 1
+  and k.n < ${seed-bids-per-player};
+
+drop table seed_numbers;
+drop table seed_digits;
+
+-- Past the seeded ids, with room for a pooled block (allocation 50); bid ids continue from max(id)
+update teams_seq set next_val = (select max(id) + 51 from teams);
+update users_seq set next_val = (select max(id) + 51 from users);
+update players_seq set next_val = (select max(id) + 51 from players);
+update auctions_seq set next_val = (select max(id) + 51 from auctions);
+update auction_players_seq set next_val = (select max(id) + 51 from auction_players);
@@ -0,0 +1,50 @@
+package com.auction.backend;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Upgrade of a database created before Flyway, as spring.flyway.baseline-* configures it.
+ */
+class SchemaUpgradeTest {
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:upgrade_" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "sa",
+            ""
+    );
+    private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+    @Test
+    void existingDatabaseIsBaselinedAndItsSequencesStartPastStoredRows() {
+        // The schema as it was before Flyway, with data and without a history table
+        flyway().target("1").load().migrate();
+        jdbc.execute("drop table flyway_schema_history");
+        jdbc.update("insert into teams (id, name, purse, max_squad_size, created_at) values (120, 'Existing', 100, 25, now())");
+        jdbc.update("insert into auctions (id, status, created_at) values (7, 'LIVE', now())");
+        jdbc.update("insert into players (id, name, category, base_price, status) values (3, 'Player', 'BAT', 1, 'AVAILABLE')");
+        jdbc.update("insert into auction_players (id, auction_id, player_id, base_price, current_price, status, created_at) "
+                + "values (40, 7, 3, 1, 1, 'LIVE', now())");
+
+        flyway().baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        assertThat(jdbc.queryForObject("select next_val from teams_seq", Long.class)).isEqualTo(171L);
+        assertThat(jdbc.queryForObject("select next_val from users_seq", Long.class)).isEqualTo(51L);
+        assertThat(jdbc.queryForObject("select version from teams where id = 120", Long.class)).isZero();
+        assertThat(jdbc.queryForObject("select current_auction_player_id from auctions where id = 7", Long.class))
+                .isEqualTo(40L);
+    }
+
+    private FluentConfiguration flyway() {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration");
+    }
+}
@@ -0,0 +1,60 @@
+package com.auction.backend;
+
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.AuctionPlayerStatus;
+import com.auction.backend.repository.AuctionPlayerRepository;
+import com.auction.backend.repository.BidRepository;
+import com.auction.backend.repository.TeamRepository;
+import com.auction.backend.service.AuthService;
+import com.auction.backend.service.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.flyway.placeholders.seed-teams=8",
+        "spring.flyway.placeholders.seed-players=30",
+        "spring.flyway.placeholders.seed-auctions=3",
+        "spring.flyway.placeholders.seed-bids-per-player=5"
+})
+@ActiveProfiles({"test", "seed"})
+class SeedDatasetTest {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private AuctionPlayerRepository auctionPlayerRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    void seedProfileGeneratesTheDatasetAndMovesTheSequencesPastIt() {
+        assertThat(teamRepository.count()).isEqualTo(8);
+        // 20 of the 30 players are in the two finished auctions
+        assertThat(auctionPlayerRepository.findByStatus(AuctionPlayerStatus.SOLD)).hasSize(20);
+        assertThat(auctionPlayerRepository.findByStatus(AuctionPlayerStatus.NOT_STARTED)).hasSize(10);
+        assertThat(bidRepository.count()).isEqualTo(100);
+
+        AuctionPlayer sold = auctionPlayerRepository.findByStatus(AuctionPlayerStatus.SOLD).get(0);
+        assertThat(bidRepository.findByAuctionPlayerIdOrderByCreatedAtAsc(sold.getId()))
+                .hasSize(5)
+                .last()
+                .satisfies(bid -> assertThat(bid.getAmount()).isEqualByComparingTo(sold.getCurrentPrice()));
+
+        assertThat(teamService.createTeam("After seeding", BigDecimal.TEN).getId()).isGreaterThan(1_000_000_008L);
+        assertThat(authService.login("seed_team_3", "password")).isNotBlank();
+    }
+}
@@ -0,0 +1,41 @@
+package com.auction.backend.domain;
+
+import com.auction.backend.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidRulesTest {
+
+    private static final BigDecimal PURSE = BigDecimal.valueOf(100);
+    private static final Long RIVAL = 1L;
+    private static final Long BIDDER = 2L;
+
+    @Test
+    void bidThatLostItsPriceLevelIsRecordedAsTheNextValidBid() {
+        // Both bid 1.2 against 1.0; the rival got there first
+        BigDecimal recorded = BidRules.resolveAmount(
+                new BigDecimal("1.2"), BigDecimal.ONE, RIVAL, BIDDER, PURSE, new BigDecimal("1.2"));
+
+        assertThat(recorded).isEqualByComparingTo("1.4");
+    }
+
+    @Test
+    void bidIsNotMovedUpToARivalThatJumpedPastItsPriceLevel() {
+        // Rival bid 4.0 against 1.0 at the same time as the bidder's 1.2: not 4.2
+        assertThatThrownBy(() -> BidRules.resolveAmount(
+                new BigDecimal("4.0"), BigDecimal.ONE, RIVAL, BIDDER, PURSE, new BigDecimal("1.2")))
+                .isInstanceOfSatisfying(DomainException.class, ex ->
+                        assertThat(ex.getReason()).isEqualTo(DomainException.Reason.INCREMENT_TOO_SMALL));
+    }
+
+    @Test
+    void teamNeverRacesItsOwnLeadingBid() {
+        assertThatThrownBy(() -> BidRules.resolveAmount(
+                new BigDecimal("1.2"), BigDecimal.ONE, BIDDER, BIDDER, PURSE, new BigDecimal("1.2")))
+                .isInstanceOf(DomainException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.auction.backend.engine;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.event.BiddingClosedEvent;
+import com.auction.backend.event.TeamChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BidEngineTest {
+
+    private AuctionTimerWheel timerWheel;
+    private BidEngine bidEngine;
+
+    @BeforeEach
+    void setUp() {
+        timerWheel = new AuctionTimerWheel(Duration.ofMillis(10), 64);
+        timerWheel.start();
+        bidEngine = new BidEngine(timerWheel, event -> { }, Runnable::run, Duration.ofMinutes(2), Duration.ofSeconds(30), 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bidEngine.shutdown();
+        timerWheel.stop();
+    }
+
+    @Test
+    void auctionsShareABoundedSetOfLanes() {
+        Map<Long, String> laneByAuction = new HashMap<>();
+        Set<String> threads = new HashSet<>();
+
+        for (long auctionId = 1; auctionId <= 100; auctionId++) {
+            String thread = bidEngine.submit(auctionId, () -> Thread.currentThread().getName()).join();
+            laneByAuction.put(auctionId, thread);
+            threads.add(thread);
+        }
+
+        assertThat(threads).hasSize(2);
+        // An auction always runs on the same lane, so its commands stay ordered
+        for (long auctionId = 1; auctionId <= 100; auctionId++) {
+            assertThat(bidEngine.submit(auctionId, () -> Thread.currentThread().getName()).join())
+                    .isEqualTo(laneByAuction.get(auctionId));
+        }
+    }
+
+    @Test
+    void closeIsAnnouncedOffTheLane() throws Exception {
+        CompletableFuture<String> announcedOn = new CompletableFuture<>();
+        ExecutorService closer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "closer"));
+        BidEngine engine = new BidEngine(timerWheel, event -> {
+            if (event instanceof BiddingClosedEvent) {
+                announcedOn.complete(Thread.currentThread().getName());
+            }
+        }, closer, Duration.ofMillis(50), Duration.ofSeconds(30), 1);
+
+        Auction auction = new Auction();
+        ReflectionTestUtils.setField(auction, "id", 3L);
+        AuctionPlayer auctionPlayer = new AuctionPlayer(auction, new Player("Player", PlayerCategory.BAT, BigDecimal.ONE), BigDecimal.ONE);
+        ReflectionTestUtils.setField(auctionPlayer, "id", 11L);
+        auctionPlayer.start(engine.initialDeadline(Instant.now()));
+
+        try {
+            engine.open(auctionPlayer);
+            assertThat(announcedOn.get(5, TimeUnit.SECONDS)).isEqualTo("closer");
+        } finally {
+            engine.shutdown();
+            closer.shutdown();
+        }
+    }
+
+    @Test
+    void teamsAreCachedAsSnapshotsUntilTheyChange() {
+        Team team = new Team("Team", new BigDecimal("50.00"), 25);
+        ReflectionTestUtils.setField(team, "id", 7L);
+
+        bidEngine.cacheTeam(team);
+        TeamSnapshot cached = bidEngine.findTeam(team.getId());
+        assertThat(cached.purse()).isEqualByComparingTo("50.00");
+
+        bidEngine.onTeamChanged(new TeamChangedEvent(team.getId()));
+        assertThat(bidEngine.findTeam(team.getId())).isNull();
+    }
+}
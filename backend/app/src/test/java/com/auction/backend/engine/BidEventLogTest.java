@@ -0,0 +1,121 @@
+package com.auction.backend.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidEventLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void undrainedBidsAreRecoveredAfterRestart() throws Exception {
+        Path path = dir.resolve("bids.log");
+        BidEventLog eventLog = open(path, DataSize.ofKilobytes(4));
+        Instant acceptedAt = Instant.parse("2026-01-01T10:00:00.123456Z");
+
+        long first = eventLog.append(1, bid(new BigDecimal("1.2"), acceptedAt));
+        eventLog.append(2, bid(new BigDecimal("1.4"), acceptedAt));
+        eventLog.markDrained(first);
+        eventLog.close();
+
+        BidEventLog reopened = open(path, DataSize.ofKilobytes(4));
+
+        assertThat(reopened.undrained()).hasSize(1);
+        BidEventLog.Entry entry = reopened.undrained().get(0);
+        assertThat(entry.id()).isEqualTo(2);
+        assertThat(entry.bid().amount()).isEqualByComparingTo("1.4");
+        assertThat(entry.bid().previousPrice()).isEqualByComparingTo("1.0");
+        assertThat(entry.bid().teamVersion()).isEqualTo(3L);
+        assertThat(entry.bid().acceptedAt()).isEqualTo(acceptedAt);
+        assertThat(reopened.lastId()).isEqualTo(2);
+    }
+
+    @Test
+    void fullyDrainedLogStartsOverWithoutReplayingOldRecords() throws Exception {
+        Path path = dir.resolve("bids.log");
+        // Room for two records
+        BidEventLog eventLog = open(path, DataSize.ofBytes(64 + 2 * BidEventLog.RECORD_SIZE));
+
+        eventLog.append(1, bid(new BigDecimal("1.2"), Instant.now()));
+        long end = eventLog.append(2, bid(new BigDecimal("1.4"), Instant.now()));
+        assertThatThrownBy(() -> eventLog.append(3, bid(new BigDecimal("1.6"), Instant.now())))
+                .isInstanceOf(IllegalStateException.class);
+
+        eventLog.markDrained(end);
+        eventLog.append(3, bid(new BigDecimal("1.6"), Instant.now()));
+        eventLog.close();
+
+        assertThat(open(path, DataSize.ofBytes(64 + 2 * BidEventLog.RECORD_SIZE)).undrained())
+                .extracting(BidEventLog.Entry::id)
+                .containsExactly(3L);
+    }
+
+    @Test
+    void writingWrapsAroundOnceTheStartIsDrained() throws Exception {
+        Path path = dir.resolve("bids.log");
+        // Room for three records; the drain never catches up completely
+        DataSize size = DataSize.ofBytes(64 + 3 * BidEventLog.RECORD_SIZE);
+        BidEventLog eventLog = open(path, size);
+
+        long first = eventLog.append(1, bid(new BigDecimal("1.2"), Instant.now()));
+        eventLog.append(2, bid(new BigDecimal("1.4"), Instant.now()));
+        eventLog.append(3, bid(new BigDecimal("1.6"), Instant.now()));
+        eventLog.markDrained(first);
+        eventLog.append(4, bid(new BigDecimal("1.8"), Instant.now())); // into the first slot
+        assertThatThrownBy(() -> eventLog.append(5, bid(new BigDecimal("2.0"), Instant.now())))
+                .isInstanceOf(IllegalStateException.class);
+        eventLog.close();
+
+        BidEventLog reopened = open(path, size);
+        assertThat(reopened.undrained())
+                .extracting(BidEventLog.Entry::id)
+                .containsExactly(2L, 3L, 4L);
+
+        // Recovered bids are drained and the ring goes on from there
+        reopened.markDrained(reopened.undrained().get(2).end());
+        reopened.append(5, bid(new BigDecimal("2.0"), Instant.now()));
+        reopened.close();
+        assertThat(open(path, size).undrained())
+                .extracting(BidEventLog.Entry::id)
+                .containsExactly(5L);
+    }
+
+    @Test
+    void recoveryStopsAtTornRecord() throws Exception {
+        Path path = dir.resolve("bids.log");
+        BidEventLog eventLog = open(path, DataSize.ofKilobytes(4));
+        eventLog.append(1, bid(new BigDecimal("1.2"), Instant.now()));
+        eventLog.append(2, bid(new BigDecimal("1.4"), Instant.now()));
+        eventLog.close();
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(64 + BidEventLog.RECORD_SIZE + 40); // amount of the second record
+            file.writeLong(999);
+        }
+
+        assertThat(open(path, DataSize.ofKilobytes(4)).undrained())
+                .extracting(BidEventLog.Entry::id)
+                .containsExactly(1L);
+    }
+
+    private static BidEventLog open(Path path, DataSize size) throws Exception {
+        BidEventLog eventLog = new BidEventLog(path, size, BidEventLog.FsyncPolicy.NEVER, Duration.ZERO);
+        eventLog.open();
+        return eventLog;
+    }
+
+    private static AcceptedBid bid(BigDecimal amount, Instant acceptedAt) {
+        return new AcceptedBid(7L, 11L, 3L, new BigDecimal("1.0"), amount, 1, acceptedAt.plusSeconds(30), acceptedAt);
+    }
+}
@@ -0,0 +1,113 @@
+package com.auction.backend.graphql;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.repository.AuctionPlayerRepository;
+import com.auction.backend.repository.TeamRepository;
+import com.auction.backend.service.AuctionPlayerService;
+import com.auction.backend.service.AuctionService;
+import com.auction.backend.service.PlayerService;
+import com.auction.backend.service.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.test.tester.ExecutionGraphQlServiceTester;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuctionBoardQueryTest {
+
+    private static final String BOARD = """
+            query Board($auctionId: ID!) {
+              auctionPlayers(auctionId: $auctionId) {
+                id
+                currentPrice
+                status
+                player { id name category }
+                currentHighestBidTeam { id name }
+              }
+            }
+            """;
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private AuctionPlayerService auctionPlayerService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private AuctionPlayerRepository auctionPlayerRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void boardQueryStatementCountDoesNotGrowWithPlayers() {
+        int small = statementsForBoard(3);
+        int large = statementsForBoard(30);
+
+        assertThat(large).isEqualTo(small);
+        // auctionPlayers, players, teams: the auction itself is never read
+        assertThat(large).isEqualTo(3);
+    }
+
+    private int statementsForBoard(int players) {
+        Auction auction = auctionService.createAuction();
+        auctionService.startAuction(auction.getId());
+
+        for (int i = 0; i < players; i++) {
+            Player player = playerService.createPlayer("Player " + UUID.randomUUID(), PlayerCategory.BAT, BigDecimal.ONE);
+            AuctionPlayer auctionPlayer =
+                    auctionPlayerService.addPlayerToAuction(auction.getId(), player.getId(), BigDecimal.ONE);
+            Team team = teamService.createTeam("Team " + UUID.randomUUID(), BigDecimal.valueOf(100));
+            sell(auctionPlayer.getId(), team.getId());
+        }
+
+        GraphQlTester tester = ExecutionGraphQlServiceTester.create(graphQlService);
+
+        StatementCounter.reset();
+        tester.document(BOARD)
+                .variable("auctionId", auction.getId())
+                .execute()
+                .path("auctionPlayers[*].currentHighestBidTeam.name").entityList(String.class).hasSize(players)
+                .path("auctionPlayers[*].player.name").entityList(String.class).hasSize(players);
+        return StatementCounter.count();
+    }
+
+    /**
+     * Give every player a different buyer, bypassing the one-LIVE-player rule.
+     */
+    private void sell(Long auctionPlayerId, Long teamId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            AuctionPlayer auctionPlayer = auctionPlayerRepository.findById(auctionPlayerId).orElseThrow();
+            Team team = teamRepository.findById(teamId).orElseThrow();
+            auctionPlayer.start(Instant.now());
+            auctionPlayer.markSold(team, new BigDecimal("2.00"));
+        });
+    }
+}
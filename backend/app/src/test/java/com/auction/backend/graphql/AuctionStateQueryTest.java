@@ -0,0 +1,135 @@
+package com.auction.backend.graphql;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.engine.BidEngine;
+import com.auction.backend.engine.BidWriter;
+import com.auction.backend.readmodel.AuctionState;
+import com.auction.backend.readmodel.AuctionStateStore;
+import com.auction.backend.service.AuctionPlayerService;
+import com.auction.backend.service.AuctionService;
+import com.auction.backend.service.BidService;
+import com.auction.backend.service.PlayerService;
+import com.auction.backend.service.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.test.tester.ExecutionGraphQlServiceTester;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "auction.timer.initial=5s",
+        "auction.timer.after-bid=2s",
+        "auction.timer.tick=20ms"
+})
+@ActiveProfiles("test")
+class AuctionStateQueryTest {
+
+    private static final String STATE = """
+            query State($auctionId: ID!) {
+              auctionState(auctionId: $auctionId) {
+                version
+                currentPlayer { name currentPrice leadingTeamName timerEndAt }
+                teams { name remainingPurse squadSize squad { category count } }
+              }
+            }
+            """;
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private AuctionStateStore auctionStates;
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private AuctionPlayerService auctionPlayerService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private BidWriter bidWriter;
+
+    @Autowired
+    private BidEngine bidEngine;
+
+    @Test
+    void stateFollowsBidsAndSalesWithoutTouchingTheDatabase() throws Exception {
+        Auction auction = auctionService.createAuction();
+        auctionService.startAuction(auction.getId());
+        Team buyer = teamService.createTeam("Buyer " + UUID.randomUUID(), BigDecimal.valueOf(100));
+        Team bystander = teamService.createTeam("Bystander " + UUID.randomUUID(), BigDecimal.valueOf(100));
+
+        AuctionPlayer sold = start(auction, PlayerCategory.BOWL);
+        bidService.placeBid(sold.getId(), buyer.getId(), new BigDecimal("1.20")).join();
+        awaitNoCurrentPlayer(auction.getId());
+
+        AuctionPlayer live = start(auction, PlayerCategory.BAT);
+        bidService.placeBid(live.getId(), buyer.getId(), new BigDecimal("1.20")).join();
+        bidWriter.lastWrite().join(); // the state follows stored bids
+        String name = live.getPlayer().getName();
+
+        GraphQlTester tester = ExecutionGraphQlServiceTester.create(graphQlService);
+        StatementCounter.reset();
+        GraphQlTester.Response response = tester.document(STATE)
+                .variable("auctionId", auction.getId())
+                .execute();
+        assertThat(StatementCounter.count()).isZero();
+
+        response.path("auctionState.currentPlayer.name").entity(String.class).isEqualTo(name);
+        response.path("auctionState.currentPlayer.currentPrice").entity(BigDecimal.class)
+                .satisfies(price -> assertThat(price).isEqualByComparingTo("1.20"));
+        response.path("auctionState.currentPlayer.leadingTeamName").entity(String.class).isEqualTo(buyer.getName());
+        response.path("auctionState.teams[?(@.name == '" + buyer.getName() + "')].remainingPurse")
+                .entityList(BigDecimal.class)
+                .satisfies(purses -> assertThat(purses).singleElement()
+                        .satisfies(purse -> assertThat(purse).isEqualByComparingTo("98.80")));
+        response.path("auctionState.teams[?(@.name == '" + buyer.getName() + "')].squad[?(@.category == 'BOWL')].count")
+                .entityList(Integer.class).containsExactly(1);
+        response.path("auctionState.teams[*].name").entityList(String.class)
+                .contains(buyer.getName())
+                .doesNotContain(bystander.getName());
+        // Same deadline as AuctionPlayer.timerEndAt: the engine's
+        response.path("auctionState.currentPlayer.timerEndAt").entity(String.class)
+                .isEqualTo(bidEngine.find(live.getId()).getTimerEndAt().toString());
+    }
+
+    private AuctionPlayer start(Auction auction, PlayerCategory category) {
+        Player player = playerService.createPlayer("Player " + UUID.randomUUID(), category, BigDecimal.ONE);
+        AuctionPlayer auctionPlayer = auctionPlayerService.addPlayerToAuction(auction.getId(), player.getId(), BigDecimal.ONE);
+        return auctionPlayerService.startAuctionPlayer(auctionPlayer.getId());
+    }
+
+    private void awaitNoCurrentPlayer(Long auctionId) throws InterruptedException {
+        Instant giveUp = Instant.now().plus(Duration.ofSeconds(10));
+        while (Instant.now().isBefore(giveUp)) {
+            AuctionState state = auctionStates.find(auctionId);
+            if (state.currentPlayer() == null) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Auction " + auctionId + " still has a current player");
+    }
+}
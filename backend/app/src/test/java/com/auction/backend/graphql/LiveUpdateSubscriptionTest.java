@@ -0,0 +1,106 @@
+package com.auction.backend.graphql;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.service.AuctionPlayerService;
+import com.auction.backend.service.AuctionService;
+import com.auction.backend.service.BidService;
+import com.auction.backend.service.PlayerService;
+import com.auction.backend.service.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.test.tester.ExecutionGraphQlServiceTester;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LiveUpdateSubscriptionTest {
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private AuctionPlayerService auctionPlayerService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private LiveUpdatePublisher liveUpdatePublisher;
+
+    @Test
+    void subscribersReceiveCommittedBidsAndPlayerChanges() throws Exception {
+        GraphQlTester tester = ExecutionGraphQlServiceTester.create(graphQlService);
+
+        Auction auction = auctionService.createAuction();
+        auctionService.startAuction(auction.getId());
+        Player player = playerService.createPlayer("Player " + UUID.randomUUID(), PlayerCategory.AR, BigDecimal.ONE);
+        AuctionPlayer auctionPlayer =
+                auctionPlayerService.addPlayerToAuction(auction.getId(), player.getId(), BigDecimal.ONE);
+        auctionPlayerService.startAuctionPlayer(auctionPlayer.getId());
+        Team team = teamService.createTeam("Team " + UUID.randomUUID(), BigDecimal.valueOf(100));
+
+        Flux<Double> bids = tester
+                .document("subscription { bidPlaced(auctionPlayerId: \"" + auctionPlayer.getId() + "\") { amount team { id name } } }")
+                .executeSubscription()
+                .toFlux("bidPlaced.amount", Double.class);
+
+        Flux<Double> prices = tester
+                .document("subscription { auctionPlayerChanged(auctionId: \"" + auction.getId() + "\") { currentPrice player { name } currentHighestBidTeam { name } timerEndAt } }")
+                .executeSubscription()
+                .toFlux("auctionPlayerChanged.currentPrice", Double.class);
+
+        CompletableFuture<List<Double>> receivedBids = bids.take(2).collectList().toFuture();
+        CompletableFuture<List<Double>> receivedPrices = prices.take(2).collectList().toFuture();
+
+        bidService.placeBid(auctionPlayer.getId(), team.getId(), new BigDecimal("1.2")).join();
+        bidService.placeBid(auctionPlayer.getId(), team.getId(), new BigDecimal("1.4")).join();
+
+        assertThat(receivedBids.get(10, TimeUnit.SECONDS)).containsExactly(1.2, 1.4);
+        assertThat(receivedPrices.get(10, TimeUnit.SECONDS)).containsExactly(1.2, 1.4);
+    }
+
+    @Test
+    void everySubscriberGetsTheSamePayload() throws Exception {
+        Auction auction = auctionService.createAuction();
+        auctionService.startAuction(auction.getId());
+        Player player = playerService.createPlayer("Player " + UUID.randomUUID(), PlayerCategory.BAT, BigDecimal.ONE);
+        AuctionPlayer auctionPlayer =
+                auctionPlayerService.addPlayerToAuction(auction.getId(), player.getId(), BigDecimal.ONE);
+        auctionPlayerService.startAuctionPlayer(auctionPlayer.getId());
+        Team team = teamService.createTeam("Team " + UUID.randomUUID(), BigDecimal.valueOf(100));
+
+        CompletableFuture<BidUpdate> first = liveUpdatePublisher.bids(auctionPlayer.getId()).next().toFuture();
+        CompletableFuture<BidUpdate> second = liveUpdatePublisher.bids(auctionPlayer.getId()).next().toFuture();
+
+        bidService.placeBid(auctionPlayer.getId(), team.getId(), new BigDecimal("1.2")).join();
+
+        // Resolved once, before fan-out: no subscriber runs its own loaders
+        assertThat(first.get(10, TimeUnit.SECONDS)).isSameAs(second.get(10, TimeUnit.SECONDS))
+                .satisfies(bid -> assertThat(bid.team().getName()).isEqualTo(team.getName()));
+    }
+}
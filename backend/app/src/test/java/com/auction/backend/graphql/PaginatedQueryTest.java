@@ -0,0 +1,129 @@
+package com.auction.backend.graphql;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.BidRules;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.engine.BidWriter;
+import com.auction.backend.service.AuctionPlayerService;
+import com.auction.backend.service.AuctionService;
+import com.auction.backend.service.BidService;
+import com.auction.backend.service.PlayerService;
+import com.auction.backend.service.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.test.tester.ExecutionGraphQlServiceTester;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PaginatedQueryTest {
+
+    private static final String HISTORY_PAGE = """
+            query History($auctionPlayerId: ID!, $first: Int, $after: String, $last: Int) {
+              bidsConnection(auctionPlayerId: $auctionPlayerId, first: $first, after: $after, last: $last) {
+                edges { cursor node { id amount team { name } } }
+                pageInfo { hasNextPage endCursor }
+              }
+            }
+            """;
+
+    private static final String NEW_BIDS = """
+            query NewBids($auctionPlayerId: ID!, $sinceBidId: ID) {
+              bids(auctionPlayerId: $auctionPlayerId, sinceBidId: $sinceBidId) { id }
+            }
+            """;
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private AuctionPlayerService auctionPlayerService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private BidWriter bidWriter;
+
+    @Test
+    void bidHistoryIsPagedWithCursorsAndPolledSinceABid() {
+        AuctionPlayer auctionPlayer = liveAuctionPlayer();
+        List<Team> teams = List.of(team(), team());
+        BigDecimal price = BigDecimal.ONE;
+        for (int i = 0; i < 7; i++) {
+            price = BidRules.nextValidBid(price);
+            bidService.placeBid(auctionPlayer.getId(), teams.get(i % 2).getId(), price).join();
+        }
+        bidWriter.lastWrite().join();
+
+        GraphQlTester tester = ExecutionGraphQlServiceTester.create(graphQlService);
+        List<String> paged = new ArrayList<>();
+        String after = null;
+        boolean hasNextPage = true;
+        int pages = 0;
+        while (hasNextPage) {
+            GraphQlTester.Response page = tester.document(HISTORY_PAGE)
+                    .variable("auctionPlayerId", auctionPlayer.getId())
+                    .variable("first", 3)
+                    .variable("after", after)
+                    .execute();
+            paged.addAll(page.path("bidsConnection.edges[*].node.id").entityList(String.class).get());
+            hasNextPage = page.path("bidsConnection.pageInfo.hasNextPage").entity(Boolean.class).get();
+            after = page.path("bidsConnection.pageInfo.endCursor").entity(String.class).get();
+            pages++;
+        }
+
+        List<String> all = tester.document(NEW_BIDS)
+                .variable("auctionPlayerId", auctionPlayer.getId())
+                .execute()
+                .path("bids[*].id").entityList(String.class).get();
+        assertThat(pages).isEqualTo(3);
+        assertThat(paged).hasSize(7).isEqualTo(all);
+
+        tester.document(HISTORY_PAGE)
+                .variable("auctionPlayerId", auctionPlayer.getId())
+                .variable("last", 2)
+                .execute()
+                .path("bidsConnection.edges[*].node.id").entityList(String.class).isEqualTo(all.subList(5, 7));
+
+        tester.document(NEW_BIDS)
+                .variable("auctionPlayerId", auctionPlayer.getId())
+                .variable("sinceBidId", all.get(3))
+                .execute()
+                .path("bids[*].id").entityList(String.class).isEqualTo(all.subList(4, 7));
+    }
+
+    private AuctionPlayer liveAuctionPlayer() {
+        Auction auction = auctionService.createAuction();
+        auctionService.startAuction(auction.getId());
+        Player player = playerService.createPlayer("Player " + UUID.randomUUID(), PlayerCategory.WK, BigDecimal.ONE);
+        AuctionPlayer auctionPlayer = auctionPlayerService.addPlayerToAuction(auction.getId(), player.getId(), BigDecimal.ONE);
+        return auctionPlayerService.startAuctionPlayer(auctionPlayer.getId());
+    }
+
+    private Team team() {
+        return teamService.createTeam("Team " + UUID.randomUUID(), BigDecimal.valueOf(100));
+    }
+}
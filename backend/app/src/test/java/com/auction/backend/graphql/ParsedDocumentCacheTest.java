@@ -0,0 +1,75 @@
+package com.auction.backend.graphql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "management.prometheus.metrics.export.enabled=true")
+@ActiveProfiles("test")
+class ParsedDocumentCacheTest {
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void parsesARepeatedDocumentOnce() {
+        // Unique text, so no other test cached it
+        String document = "query Teams { teams { id name } } # " + UUID.randomUUID();
+
+        double missesBefore = gets("miss");
+        assertThat(execute(document, "Teams").getErrors()).isEmpty();
+        assertThat(gets("miss") - missesBefore).isEqualTo(1);
+
+        double hitsBefore = gets("hit");
+        ExecutionGraphQlResponse repeated = execute(document, "Teams");
+        assertThat(repeated.getErrors()).isEmpty();
+        Map<String, Object> data = repeated.getData();
+        assertThat(data).containsKey("teams");
+        assertThat(gets("hit") - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotKeepInvalidDocuments() {
+        String document = "query Broken { noSuchField } # " + UUID.randomUUID();
+
+        assertThat(execute(document, null).getErrors()).isNotEmpty();
+
+        double missesBefore = gets("miss");
+        assertThat(execute(document, null).getErrors()).isNotEmpty();
+        assertThat(gets("miss") - missesBefore).isEqualTo(1);
+    }
+
+    @Test
+    void cacheMetricsOfEveryCacheReachPrometheus() {
+        // Same meter names as the Spring caches: Prometheus drops any with other tag keys
+        assertThat(((PrometheusMeterRegistry) meterRegistry).scrape())
+                .contains("cache=\"userDetails\"")
+                .contains("cache=\"persistedQueries\"")
+                .contains("cache=\"graphqlDocuments\"");
+    }
+
+    private ExecutionGraphQlResponse execute(String document, String operationName) {
+        return graphQlService.execute(new DefaultExecutionGraphQlRequest(
+                document, operationName, Map.of(), Map.of(), UUID.randomUUID().toString(), null
+        )).block();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "graphqlDocuments").tag("result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,67 @@
+package com.auction.backend.graphql;
+
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+@SpringBootTest(properties = {
+        "auction.graphql.persisted-queries.mode=allow-list",
+        "auction.graphql.persisted-queries.manifest=classpath:persisted-queries/manifest.json"
+})
+@ActiveProfiles("test")
+class PersistedQueryAllowListTest {
+
+    private static final String LISTED = "query Teams { teams { id name } }";
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Test
+    void runsListedOperationsByHashOrInFull() {
+        assertThat(execute(PersistedQuerySupport.PERSISTED_QUERY_MARKER, PersistedQueries.sha256(LISTED)).getErrors())
+                .isEmpty();
+        assertThat(execute(LISTED, null).getErrors()).isEmpty();
+    }
+
+    @Test
+    void refusesEverythingElse() {
+        String other = "query Teams { teams { id } }";
+
+        assertThat(execute(other, null).getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).contains("allow-list"));
+        assertThat(execute(other, PersistedQueries.sha256(other)).getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).contains("allow-list"));
+    }
+
+    @Test
+    void missingManifestFailsWithHowToGenerateIt() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new PersistedQueries(PersistedQueries.Mode.ALLOW_LIST,
+                        new ClassPathResource("persisted-queries/missing.json"), 10, null, new SimpleMeterRegistry()))
+                .withMessageContaining("missing.json")
+                .withMessageContaining("npm run persisted-queries")
+                .withMessageContaining("auction.graphql.persisted-queries.manifest");
+    }
+
+    private ExecutionGraphQlResponse execute(String document, String hash) {
+        Map<String, Object> extensions = hash == null
+                ? Map.of()
+                : Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+        return graphQlService.execute(new DefaultExecutionGraphQlRequest(
+                document, null, Map.of(), extensions, UUID.randomUUID().toString(), null
+        )).block();
+    }
+}
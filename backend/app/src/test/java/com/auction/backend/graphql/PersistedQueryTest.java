@@ -0,0 +1,69 @@
+package com.auction.backend.graphql;
+
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PersistedQueryTest {
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void registersADocumentOnceThenServesItByHash() {
+        // Unique text, so no other test registered it
+        String document = "query Teams { teams { id name } } # " + UUID.randomUUID();
+        String hash = PersistedQueries.sha256(document);
+
+        ExecutionGraphQlResponse unknown = execute(PersistedQuerySupport.PERSISTED_QUERY_MARKER, hash);
+        assertThat(unknown.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("PersistedQueryNotFound"));
+
+        assertThat(execute(document, hash).isValid()).isTrue();
+
+        double hitsBefore = hits();
+        ExecutionGraphQlResponse byHash = execute(PersistedQuerySupport.PERSISTED_QUERY_MARKER, hash);
+        assertThat(byHash.getErrors()).isEmpty();
+        Map<String, Object> data = byHash.getData();
+        assertThat(data).containsKey("teams");
+        assertThat(hits() - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void refusesADocumentThatDoesNotMatchItsHash() {
+        String hash = PersistedQueries.sha256("query Other { teams { id } }");
+
+        ExecutionGraphQlResponse response = execute("query Teams { teams { id name } }", hash);
+
+        assertThat(response.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("PersistedQueryIdInvalid"));
+    }
+
+    private ExecutionGraphQlResponse execute(String document, String hash) {
+        Map<String, Object> extensions = Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+        return graphQlService.execute(new DefaultExecutionGraphQlRequest(
+                document, null, Map.of(), extensions, UUID.randomUUID().toString(), null
+        )).block();
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "persistedQueries").tag("result", "hit")
+                .functionCounter().count();
+    }
+}
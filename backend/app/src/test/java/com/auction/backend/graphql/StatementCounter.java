@@ -0,0 +1,37 @@
+package com.auction.backend.graphql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts SQL statements prepared by the current thread and the threads it starts
+ * (registered through hibernate.session_factory.statement_inspector in the test profile).
+ *
+ * Blocking data fetchers run on virtual threads started per call, so the
+ * counter is inherited: reset() gives the calling thread a fresh one that
+ * threads started afterwards share, earlier threads (bid writer) keep the old one.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final InheritableThreadLocal<AtomicInteger> COUNT = new InheritableThreadLocal<>() {
+        @Override
+        protected AtomicInteger initialValue() {
+            return new AtomicInteger();
+        }
+    };
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get().incrementAndGet();
+        return sql;
+    }
+
+    static void reset() {
+        COUNT.set(new AtomicInteger());
+    }
+
+    static int count() {
+        return COUNT.get().get();
+    }
+}
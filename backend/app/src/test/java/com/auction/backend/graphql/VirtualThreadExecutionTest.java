@@ -0,0 +1,30 @@
+package com.auction.backend.graphql;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.data.method.annotation.support.AnnotatedControllerConfigurer;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VirtualThreadExecutionTest {
+
+    @Autowired
+    private AnnotatedControllerConfigurer controllerConfigurer;
+
+    @Test
+    void blockingDataFetchersRunOnVirtualThreads() {
+        // The executor blocking @SchemaMapping / @QueryMapping methods are dispatched to
+        CompletableFuture<Boolean> virtual = CompletableFuture.supplyAsync(
+                () -> Thread.currentThread().isVirtual(),
+                controllerConfigurer.getExecutor()
+        );
+
+        assertThat(virtual.join()).isTrue();
+    }
+}
@@ -0,0 +1,69 @@
+package com.auction.backend.security;
+
+import com.auction.backend.config.CacheConfig;
+import com.auction.backend.domain.Role;
+import com.auction.backend.domain.User;
+import com.auction.backend.service.AuthService;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomUserDetailsServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void repeatedLoginsAreServedFromCache() {
+        String username = register().getUsername();
+        long hitsBefore = nativeCache().stats().hitCount();
+
+        // Credentials are erased after each login; the cached snapshot must survive that
+        authService.login(username, "secret123");
+        authService.login(username, "secret123");
+        authService.login(username, "secret123");
+
+        assertThat(nativeCache().stats().hitCount() - hitsBefore).isGreaterThanOrEqualTo(2);
+        assertThat(meterRegistry.find("cache.gets").tag("cache", CacheConfig.USER_DETAILS).meters()).isNotEmpty();
+    }
+
+    @Test
+    void revokingTokensEvictsTheCachedAccount() {
+        User user = register();
+        authService.login(user.getUsername(), "secret123"); // cache the account
+
+        authService.revokeTokens(user.getId());
+        String token = authService.login(user.getUsername(), "secret123");
+
+        assertThat(tokenProvider.getPrincipal(tokenProvider.parseClaims(token)).tokenVersion()).isEqualTo(1);
+    }
+
+    private User register() {
+        String username = "user-" + UUID.randomUUID().toString().substring(0, 8);
+        return authService.register(username, "secret123", username + "@example.com", Role.ADMIN, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> nativeCache() {
+        return (Cache<Object, Object>) cacheManager.getCache(CacheConfig.USER_DETAILS).getNativeCache();
+    }
+}
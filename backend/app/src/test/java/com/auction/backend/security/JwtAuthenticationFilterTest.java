@@ -0,0 +1,69 @@
+package com.auction.backend.security;
+
+import com.auction.backend.domain.Role;
+import com.auction.backend.domain.Team;
+import com.auction.backend.domain.User;
+import com.auction.backend.service.AuthService;
+import com.auction.backend.service.TeamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private JwtAuthenticationFilter filter;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void principalIsBuiltFromClaimsUntilTokensAreRevoked() throws Exception {
+        Team team = teamService.createTeam("Team " + UUID.randomUUID(), BigDecimal.valueOf(100));
+        String username = "user-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = authService.register(username, "secret123", username + "@example.com", Role.TEAM_USER, team.getId());
+        String token = authService.login(username, "secret123");
+        SecurityContextHolder.clearContext();
+
+        Authentication authentication = authenticate(token);
+        assertThat(authentication.getPrincipal()).isEqualTo(
+                new AuthenticatedUser(user.getId(), username, Role.TEAM_USER, team.getId(), 0)
+        );
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_TEAM_USER");
+
+        authService.revokeTokens(user.getId());
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/graphql");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
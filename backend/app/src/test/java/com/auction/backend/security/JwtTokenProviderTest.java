@@ -0,0 +1,46 @@
+package com.auction.backend.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET =
+            "test-secret-key-that-is-long-enough-for-the-hs256-algorithm-to-accept-it";
+
+    private final JwtTokenProvider provider =
+            new JwtTokenProvider(SECRET, 60_000, 100, Duration.ofMinutes(5));
+
+    @Test
+    void verifiedClaimsAreReusedForTheSameToken() {
+        String token = token(provider, "alice");
+
+        Claims first = provider.parseClaims(token);
+        Claims second = provider.parseClaims(token);
+
+        assertThat(first.getSubject()).isEqualTo("alice");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void tamperedOrForeignTokensAreRejected() {
+        String token = token(provider, "alice");
+        JwtTokenProvider otherKey = new JwtTokenProvider(SECRET + "-other", 60_000, 100, Duration.ofMinutes(5));
+
+        assertThat(provider.parseClaims(token.substring(0, token.length() - 2) + "xx")).isNull();
+        assertThat(provider.parseClaims(token(otherKey, "alice"))).isNull();
+        assertThat(provider.parseClaims("")).isNull();
+    }
+
+    private static String token(JwtTokenProvider provider, String username) {
+        UserDetails user = User.withUsername(username).password("secret").roles("ADMIN").build();
+        return provider.generateToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.auction.backend.security;
+
+import com.auction.backend.domain.Role;
+import com.auction.backend.domain.User;
+import com.auction.backend.repository.UserRepository;
+import com.auction.backend.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "auction.auth.bcrypt-strength=5",
+        "auction.auth.rehash-on-login=true"
+})
+@ActiveProfiles("test")
+class OffloadedPasswordEncoderTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void loginRehashesWeakerHashesAndRecordsHashing() {
+        String username = "user-" + UUID.randomUUID().toString().substring(0, 8);
+        String weakHash = new BCryptPasswordEncoder(4).encode("secret123");
+        userRepository.save(new User(username, weakHash, username + "@example.com", Role.ADMIN, null));
+
+        authService.login(username, "secret123");
+
+        String stored = userRepository.findByUsername(username).orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$05$");
+        // The new hash is the one checked from now on
+        assertThat(authService.login(username, "secret123")).isNotBlank();
+
+        assertThat(meterRegistry.get("auction.auth.hash").tag("operation", "matches").timer().count())
+                .isGreaterThanOrEqualTo(2);
+        assertThat(meterRegistry.get("auction.auth.hash").tag("operation", "encode").timer().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "auth.hash").gauge()).isNotNull();
+    }
+}
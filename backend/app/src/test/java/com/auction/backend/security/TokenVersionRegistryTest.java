@@ -0,0 +1,43 @@
+package com.auction.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenVersionRegistryTest {
+
+    private final Map<Long, Integer> stored = Map.of(1L, 3);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final TokenVersionRegistry registry = new TokenVersionRegistry(userId -> {
+        loads.incrementAndGet();
+        return stored.get(userId);
+    }, Duration.ofMinutes(1));
+
+    @Test
+    void knownVersionsAreLoadedOnceAndKeptUpToDate() {
+        assertThat(registry.isCurrent(1L, 3)).isTrue();
+        assertThat(registry.isCurrent(1L, 2)).isFalse();
+        assertThat(loads).hasValue(1);
+
+        registry.update(1L, 4);
+        assertThat(registry.isCurrent(1L, 3)).isFalse();
+        assertThat(registry.isCurrent(1L, 4)).isTrue();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void unknownUsersAreNotQueriedOnEveryRequest() {
+        assertThat(registry.isCurrent(99L, 0)).isFalse();
+        assertThat(registry.isCurrent(99L, 0)).isFalse();
+        assertThat(loads).hasValue(1);
+
+        // A version recorded later replaces the miss
+        registry.update(99L, 0);
+        assertThat(registry.isCurrent(99L, 0)).isTrue();
+    }
+}
@@ -0,0 +1,139 @@
+package com.auction.backend.service;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.exception.DomainException;
+import com.auction.backend.domain.AuctionPlayerStatus;
+import com.auction.backend.repository.AuctionPlayerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuctionPlayerServiceTest {
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private AuctionPlayerService auctionPlayerService;
+
+    @Autowired
+    private AuctionPlayerRepository auctionPlayerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void bulkAddUsesSetBasedQueriesAndKeepsEntryOrder() {
+        Auction auction = liveAuction();
+        List<AuctionPlayerService.NewAuctionPlayer> entries = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Player player = playerService.createPlayer("Bulk " + i, PlayerCategory.BOWL, BigDecimal.ONE);
+            entries.add(new AuctionPlayerService.NewAuctionPlayer(player.getId(), BigDecimal.valueOf(i + 1)));
+        }
+        Collections.reverse(entries); // not the id order
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        List<AuctionPlayer> added = auctionPlayerService.addPlayersToAuction(auction.getId(), entries);
+
+        // auction, players, already-scheduled check, a few id blocks and insert batches
+        assertThat(statistics.getPrepareStatementCount() - statementsBefore).isLessThan(20);
+        assertThat(added).extracting(auctionPlayer -> auctionPlayer.getPlayer().getId())
+                .containsExactlyElementsOf(entries.stream().map(AuctionPlayerService.NewAuctionPlayer::playerId).toList());
+        assertThat(auctionPlayerRepository.findByAuctionId(auction.getId())).hasSize(120);
+    }
+
+    @Test
+    void duplicatePlayersRejectTheWholeRequest() {
+        Auction auction = liveAuction();
+        Long first = playerService.createPlayer("First", PlayerCategory.BAT, BigDecimal.ONE).getId();
+        Long second = playerService.createPlayer("Second", PlayerCategory.BAT, BigDecimal.ONE).getId();
+
+        assertThatThrownBy(() -> auctionPlayerService.addPlayersToAuction(auction.getId(), List.of(
+                new AuctionPlayerService.NewAuctionPlayer(first, BigDecimal.ONE),
+                new AuctionPlayerService.NewAuctionPlayer(second, BigDecimal.ONE),
+                new AuctionPlayerService.NewAuctionPlayer(first, BigDecimal.TEN)
+        ))).isInstanceOf(DomainException.class).hasMessageContaining("more than once");
+
+        auctionPlayerService.addPlayerToAuction(auction.getId(), first, BigDecimal.ONE);
+
+        assertThatThrownBy(() -> auctionPlayerService.addPlayersToAuction(auction.getId(), List.of(
+                new AuctionPlayerService.NewAuctionPlayer(second, BigDecimal.ONE),
+                new AuctionPlayerService.NewAuctionPlayer(first, BigDecimal.ONE)
+        ))).isInstanceOf(DomainException.class).hasMessageContaining("already in this auction");
+
+        assertThat(auctionPlayerRepository.findByAuctionId(auction.getId())).hasSize(1);
+    }
+
+    @Test
+    void concurrentStartsLetExactlyOnePlayerGoLive() throws Exception {
+        Auction auction = liveAuction();
+        List<AuctionPlayerService.NewAuctionPlayer> entries = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Player player = playerService.createPlayer("Contender " + i, PlayerCategory.AR, BigDecimal.ONE);
+            entries.add(new AuctionPlayerService.NewAuctionPlayer(player.getId(), BigDecimal.ONE));
+        }
+        List<AuctionPlayer> auctionPlayers = auctionPlayerService.addPlayersToAuction(auction.getId(), entries);
+
+        ExecutorService admins = Executors.newFixedThreadPool(auctionPlayers.size());
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        List<Future<?>> attempts = new ArrayList<>();
+        for (AuctionPlayer auctionPlayer : auctionPlayers) {
+            attempts.add(admins.submit(() -> {
+                start.await();
+                try {
+                    auctionPlayerService.startAuctionPlayer(auctionPlayer.getId());
+                    started.incrementAndGet();
+                } catch (DomainException ex) {
+                    assertThat(ex).hasMessageContaining("already being auctioned");
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> attempt : attempts) {
+            attempt.get();
+        }
+        admins.shutdown();
+
+        assertThat(started).hasValue(1);
+        List<AuctionPlayer> live = auctionPlayerRepository.findByAuctionId(auction.getId()).stream()
+                .filter(auctionPlayer -> auctionPlayer.getStatus() == AuctionPlayerStatus.LIVE)
+                .toList();
+        assertThat(live).singleElement()
+                .extracting(AuctionPlayer::getId)
+                .isEqualTo(auctionPlayerRepository.findCurrentByAuctionId(auction.getId()).orElseThrow().getId());
+    }
+
+    private Auction liveAuction() {
+        Auction auction = auctionService.createAuction();
+        auctionService.startAuction(auction.getId());
+        return auction;
+    }
+}
@@ -0,0 +1,123 @@
+package com.auction.backend.service;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.AuctionPlayerStatus;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.PlayerStatus;
+import com.auction.backend.domain.Team;
+import com.auction.backend.exception.DomainException;
+import com.auction.backend.repository.AuctionPlayerRepository;
+import com.auction.backend.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "auction.timer.initial=1500ms",
+        "auction.timer.after-bid=1s",
+        "auction.timer.tick=20ms"
+})
+@ActiveProfiles("test")
+class AuctionTimerTest {
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private AuctionPlayerService auctionPlayerService;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private AuctionPlayerRepository auctionPlayerRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void playerIsSoldToLeadingTeamWhenTimerRunsOut() throws Exception {
+        AuctionPlayer auctionPlayer = liveAuctionPlayer();
+        Team team = teamService.createTeam("Team " + UUID.randomUUID(), BigDecimal.valueOf(100));
+
+        Instant bidAt = Instant.now();
+        bidService.placeBid(auctionPlayer.getId(), team.getId(), new BigDecimal("1.20")).get();
+
+        AuctionPlayer closed = awaitClosed(auctionPlayer.getId());
+        assertThat(closed.getStatus()).isEqualTo(AuctionPlayerStatus.SOLD);
+        assertThat(closed.getCurrentHighestBidTeam().getId()).isEqualTo(team.getId());
+        assertThat(closed.getCurrentPrice()).isEqualByComparingTo("1.20");
+        // The bid reset the timer to one second from the bid
+        assertThat(closed.getTimerEndAt()).isAfterOrEqualTo(bidAt.plusSeconds(1));
+        assertThat(playerRepository.findById(closed.getPlayer().getId()).orElseThrow().getStatus())
+                .isEqualTo(PlayerStatus.SOLD);
+
+        assertThat(bidRejection(auctionPlayer, team, new BigDecimal("1.40"))).isInstanceOf(DomainException.class);
+    }
+
+    @Test
+    void playerWithoutBidsIsUnsoldAndLateBidsAreRejected() throws Exception {
+        AuctionPlayer auctionPlayer = liveAuctionPlayer();
+        Team team = teamService.createTeam("Team " + UUID.randomUUID(), BigDecimal.valueOf(100));
+
+        Thread.sleep(auctionPlayer.getTimerEndAt().toEpochMilli() - System.currentTimeMillis() + 10);
+
+        // Past the deadline: rejected by the engine, or by the closed row once it is persisted
+        assertThat(bidRejection(auctionPlayer, team, new BigDecimal("1.20"))).isInstanceOf(DomainException.class);
+
+        AuctionPlayer closed = awaitClosed(auctionPlayer.getId());
+        assertThat(closed.getStatus()).isEqualTo(AuctionPlayerStatus.UNSOLD);
+        assertThat(closed.getCurrentHighestBidTeam()).isNull();
+    }
+
+    private Throwable bidRejection(AuctionPlayer auctionPlayer, Team team, BigDecimal amount) {
+        try {
+            bidService.placeBid(auctionPlayer.getId(), team.getId(), amount).join();
+            return null;
+        } catch (CompletionException ex) {
+            return ex.getCause();
+        } catch (DomainException ex) {
+            return ex;
+        }
+    }
+
+    private AuctionPlayer awaitClosed(Long auctionPlayerId) throws InterruptedException {
+        Instant giveUp = Instant.now().plus(Duration.ofSeconds(10));
+        while (Instant.now().isBefore(giveUp)) {
+            AuctionPlayer auctionPlayer = auctionPlayerRepository.findById(auctionPlayerId).orElseThrow();
+            if (auctionPlayer.getStatus() != AuctionPlayerStatus.LIVE) {
+                return auctionPlayer;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("AuctionPlayer " + auctionPlayerId + " was not closed");
+    }
+
+    private AuctionPlayer liveAuctionPlayer() {
+        Auction auction = auctionService.createAuction();
+        auctionService.startAuction(auction.getId());
+
+        Player player = playerService.createPlayer("Player " + UUID.randomUUID(), PlayerCategory.BAT, BigDecimal.ONE);
+        AuctionPlayer auctionPlayer =
+                auctionPlayerService.addPlayerToAuction(auction.getId(), player.getId(), BigDecimal.ONE);
+
+        return auctionPlayerService.startAuctionPlayer(auctionPlayer.getId());
+    }
+}
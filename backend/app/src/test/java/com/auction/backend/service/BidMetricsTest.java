@@ -0,0 +1,72 @@
+package com.auction.backend.service;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.exception.DomainException;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "management.prometheus.metrics.export.enabled=true")
+@ActiveProfiles("test")
+class BidMetricsTest {
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private AuctionPlayerService auctionPlayerService;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private PrometheusMeterRegistry meterRegistry;
+
+    @Test
+    void bidsAreTimedByOutcomeAndRejectionReason() {
+        Auction auction = auctionService.createAuction();
+        auctionService.startAuction(auction.getId());
+        Player player = playerService.createPlayer("Player " + UUID.randomUUID(), PlayerCategory.BAT, BigDecimal.ONE);
+        AuctionPlayer auctionPlayer = auctionPlayerService.startAuctionPlayer(
+                auctionPlayerService.addPlayerToAuction(auction.getId(), player.getId(), BigDecimal.ONE).getId()
+        );
+        Team rich = teamService.createTeam("Team " + UUID.randomUUID(), BigDecimal.valueOf(100));
+        Team poor = teamService.createTeam("Team " + UUID.randomUUID(), new BigDecimal("1.10"));
+
+        bidService.placeBid(auctionPlayer.getId(), rich.getId(), new BigDecimal("1.20")).join();
+        assertThatThrownBy(() -> bidService.placeBid(auctionPlayer.getId(), poor.getId(), new BigDecimal("1.40")).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> bidService.placeBid(auctionPlayer.getId(), rich.getId(), new BigDecimal("1.25")).join())
+                .hasCauseInstanceOf(DomainException.class);
+
+        assertThat(meterRegistry.get("auction.bids").tag("outcome", "accepted").timer().count()).isPositive();
+        assertThat(meterRegistry.get("auction.bids").tag("reason", "insufficient_purse").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auction.bids").tag("reason", "increment_too_small").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auction.player.transitions").tag("status", "LIVE").timer().count()).isPositive();
+
+        assertThat(meterRegistry.scrape())
+                .contains("auction_bids_seconds_bucket{")
+                .contains("reason=\"insufficient_purse\"")
+                .contains("auction_player_transitions_seconds_bucket{");
+    }
+}
@@ -0,0 +1,341 @@
+package com.auction.backend.service;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Bid;
+import com.auction.backend.domain.BidRules;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.engine.BidEngine;
+import com.auction.backend.engine.BidWriter;
+import com.auction.backend.engine.LiveAuctionPlayer;
+import com.auction.backend.exception.DomainException;
+import com.auction.backend.readmodel.AuctionStateStore;
+import com.auction.backend.repository.AuctionPlayerRepository;
+import com.auction.backend.repository.BidRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BidServiceConcurrencyTest {
+
+    private static final int TEAMS = 6;
+    private static final int PRICE_LEVELS = 400;
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private AuctionPlayerService auctionPlayerService;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private BidWriter bidWriter;
+
+    @Autowired
+    private BidEngine bidEngine;
+
+    @Autowired
+    private AuctionStateStore auctionStates;
+
+    @Autowired
+    private AuctionPlayerRepository auctionPlayerRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void exactlyOneBidWinsEachPriceLevel() throws Exception {
+        AuctionPlayer auctionPlayer = liveAuctionPlayer(BigDecimal.ONE);
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(team(BigDecimal.valueOf(1000)));
+        }
+
+        // Every team bids on every price level: thousands of colliding bids
+        List<BigDecimal> levels = new ArrayList<>();
+        BigDecimal price = BigDecimal.ONE;
+        for (int i = 0; i < PRICE_LEVELS; i++) {
+            price = BidRules.nextValidBid(price);
+            levels.add(price);
+        }
+
+        ExecutorService clients = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Map<Long, BigDecimal> requested = new ConcurrentHashMap<>();
+        List<Future<?>> submissions = new ArrayList<>();
+
+        for (BigDecimal level : levels) {
+            for (Team team : teams) {
+                submissions.add(clients.submit(() -> {
+                    start.await();
+                    try {
+                        Bid bid = bidService.placeBid(auctionPlayer.getId(), team.getId(), level).join();
+                        requested.put(bid.getId(), level);
+                        accepted.incrementAndGet();
+                    } catch (CompletionException ex) {
+                        assertThat(ex.getCause()).isInstanceOf(DomainException.class);
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+        }
+
+        start.countDown();
+        for (Future<?> submission : submissions) {
+            submission.get(60, TimeUnit.SECONDS);
+        }
+        clients.shutdown();
+        awaitStored();
+
+        List<Bid> bids = bidRepository.findByAuctionPlayerIdOrderByCreatedAtAsc(auctionPlayer.getId());
+        bids.sort(Comparator.comparing(Bid::getId));
+
+        assertThat(accepted.get() + rejected.get()).isEqualTo(TEAMS * PRICE_LEVELS);
+        assertThat(bids).hasSize(accepted.get());
+
+        // One bid per price level, each a valid raise over the previous one, and
+        // recorded at the level it was placed for or (lost race) the one above
+        Set<BigDecimal> amounts = new HashSet<>();
+        BigDecimal previous = BigDecimal.ONE;
+        for (Bid bid : bids) {
+            assertThat(amounts.add(bid.getAmount().stripTrailingZeros())).isTrue();
+            BigDecimal level = requested.get(bid.getId());
+            assertThat(bid.getAmount()).satisfiesAnyOf(
+                    amount -> assertThat(amount).isEqualByComparingTo(level),
+                    amount -> assertThat(amount).isEqualByComparingTo(BidRules.nextValidBid(level)));
+            assertThat(bid.getAmount().subtract(previous))
+                    .isGreaterThanOrEqualTo(BidRules.minimumIncrement(previous));
+            previous = bid.getAmount();
+        }
+
+        Bid last = bids.get(bids.size() - 1);
+        AuctionPlayer stored = auctionPlayerRepository.findById(auctionPlayer.getId()).orElseThrow();
+        assertThat(stored.getCurrentPrice()).isEqualByComparingTo(last.getAmount());
+        assertThat(stored.getCurrentHighestBidTeam().getId()).isEqualTo(last.getTeam().getId());
+        assertThat(stored.getVersion()).isGreaterThan(auctionPlayer.getVersion());
+    }
+
+    @Test
+    void writerRejectsStaleBidWhenRowMovedFurtherThanOneIncrement() {
+        AuctionPlayer auctionPlayer = liveAuctionPlayer(BigDecimal.ONE);
+        Team rival = team(BigDecimal.valueOf(100));
+        Team bidder = team(BigDecimal.valueOf(100));
+
+        // Engine now holds the player at 1.2
+        bidService.placeBid(auctionPlayer.getId(), rival.getId(), new BigDecimal("1.2")).join();
+        awaitStored();
+        LiveAuctionPlayer before = bidEngine.find(auctionPlayer.getId());
+
+        // Another writer moves the row on without the engine knowing
+        transactionTemplate.executeWithoutResult(status ->
+                auctionPlayerRepository.findById(auctionPlayer.getId()).orElseThrow()
+                        .updateCurrentBid(rival, new BigDecimal("3.0"))
+        );
+
+        // Valid against the engine's 1.2 (acknowledged), but 3.0 is not a race for that price
+        // level: rejected when stored rather than jumped to 3.2, and the engine reloads the row
+        Bid stale = bidService.placeBid(auctionPlayer.getId(), bidder.getId(), new BigDecimal("1.4")).join();
+        assertThat(stale.getAmount()).isEqualByComparingTo("1.4");
+        awaitStored();
+
+        assertThat(bidRepository.findById(stale.getId())).isEmpty();
+        assertThat(meterRegistry.get("auction.bids.revised").tag("reason", "increment_too_small").counter().count())
+                .isPositive();
+        AuctionPlayer row = auctionPlayerRepository.findById(auctionPlayer.getId()).orElseThrow();
+        assertThat(row.getCurrentPrice()).isEqualByComparingTo("3.0");
+        assertThat(row.getCurrentHighestBidTeam().getId()).isEqualTo(rival.getId());
+
+        // Readers see the row as stored, never the engine's 1.4
+        assertThat(auctionStates.find(auctionPlayer.getAuction().getId()).currentPlayer().currentPrice())
+                .isEqualByComparingTo("3.0");
+
+        // Replaced on the lane: the old state is closed, the new one holds the stored row
+        LiveAuctionPlayer reloaded = bidEngine
+                .submit(auctionPlayer.getAuction().getId(), () -> bidEngine.find(auctionPlayer.getId()))
+                .join();
+        assertThat(reloaded).isNotSameAs(before);
+        assertThat(before.isOpenAt(Instant.now())).isFalse();
+        assertThat(reloaded.getCurrentPrice()).isEqualByComparingTo("3.0");
+        assertThat(reloaded.getLeadingTeamId()).isEqualTo(rival.getId());
+        assertThat(reloaded.isOpenAt(Instant.now())).isTrue();
+    }
+
+    @Test
+    void writerRepricesBidThatLostTheRaceByOneIncrement() {
+        AuctionPlayer auctionPlayer = liveAuctionPlayer(BigDecimal.ONE);
+        Team rival = team(BigDecimal.valueOf(100));
+        Team bidder = team(BigDecimal.valueOf(100));
+
+        bidService.placeBid(auctionPlayer.getId(), rival.getId(), new BigDecimal("1.2")).join();
+        awaitStored();
+
+        // The rival takes the next price level outside the engine
+        transactionTemplate.executeWithoutResult(status ->
+                auctionPlayerRepository.findById(auctionPlayer.getId()).orElseThrow()
+                        .updateCurrentBid(rival, new BigDecimal("1.4"))
+        );
+
+        // Same price level the rival won: acknowledged as placed, recorded as the next valid bid
+        Bid acknowledged = bidService.placeBid(auctionPlayer.getId(), bidder.getId(), new BigDecimal("1.4")).join();
+        assertThat(acknowledged.getAmount()).isEqualByComparingTo("1.4");
+        awaitStored();
+
+        assertThat(bidRepository.findById(acknowledged.getId()).orElseThrow().getAmount()).isEqualByComparingTo("1.6");
+
+        AuctionPlayer row = auctionPlayerRepository.findById(auctionPlayer.getId()).orElseThrow();
+        assertThat(row.getCurrentPrice()).isEqualByComparingTo("1.6");
+        assertThat(row.getCurrentHighestBidTeam().getId()).isEqualTo(bidder.getId());
+    }
+
+    @Test
+    void rejectsAmountsFinerThanHundredthsWithoutMovingTheEngine() {
+        AuctionPlayer auctionPlayer = liveAuctionPlayer(BigDecimal.ONE);
+        Team team = team(BigDecimal.valueOf(100));
+
+        // A valid increment, but not a storable price
+        CompletableFuture<Bid> finer = bidService.placeBid(auctionPlayer.getId(), team.getId(), new BigDecimal("1.205"));
+        assertThat(finer).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOfSatisfying(DomainException.class, ex ->
+                        assertThat(ex.getReason()).isEqualTo(DomainException.Reason.INVALID_AMOUNT));
+
+        assertThat(bidEngine.find(auctionPlayer.getId()).getCurrentPrice()).isEqualByComparingTo("1");
+        assertThat(bidEngine.find(auctionPlayer.getId()).getLeadingTeamId()).isNull();
+
+        // Trailing zeros are fine
+        Bid bid = bidService.placeBid(auctionPlayer.getId(), team.getId(), new BigDecimal("1.200")).join();
+        assertThat(bid.getAmount()).isEqualByComparingTo("1.2");
+        // Acknowledged before it is stored: references by id, no detached proxies
+        assertThat(bid.getAuctionPlayer()).isNull();
+        assertThat(bid.getTeamId()).isEqualTo(team.getId());
+        awaitStored();
+        assertThat(bidRepository.findById(bid.getId())).isPresent();
+    }
+
+    @Test
+    void bidTheDatabaseRefusesIsRejectedWithoutHoldingBackOthers() {
+        AuctionPlayer auctionPlayer = liveAuctionPlayer(BigDecimal.ONE);
+        AuctionPlayer other = liveAuctionPlayer(BigDecimal.ONE);
+        Team rival = team(BigDecimal.valueOf(100));
+        Team bidder = team(BigDecimal.valueOf(100));
+
+        Bid first = bidService.placeBid(auctionPlayer.getId(), rival.getId(), new BigDecimal("1.2")).join();
+        awaitStored();
+
+        // A row already holds the id the next bid gets: inserting it violates the primary key
+        transactionTemplate.executeWithoutResult(status -> {
+            AuctionPlayer row = auctionPlayerRepository.findById(auctionPlayer.getId()).orElseThrow();
+            bidRepository.save(new Bid(first.getId() + 1, row, row.getCurrentHighestBidTeam(), row.getCurrentPrice(), Instant.now()));
+        });
+
+        CompletableFuture<Bid> refused = bidService.placeBid(auctionPlayer.getId(), bidder.getId(), new BigDecimal("1.4"));
+        CompletableFuture<Bid> unaffected = bidService.placeBid(other.getId(), bidder.getId(), new BigDecimal("1.2"));
+        Long refusedId = refused.join().getId();
+        Long unaffectedId = unaffected.join().getId();
+        awaitStored();
+
+        assertThat(bidRepository.findById(refusedId).orElseThrow().getTeamId()).isEqualTo(rival.getId()); // the conflicting row
+        assertThat(bidRepository.findById(unaffectedId).orElseThrow().getAmount()).isEqualByComparingTo("1.2");
+        assertThat(meterRegistry.get("auction.bids.revised").tag("reason", "other").counter().count()).isPositive();
+
+        // The engine is back at the stored price, and the next bid for it is stored
+        Bid retried = bidService.placeBid(auctionPlayer.getId(), bidder.getId(), new BigDecimal("1.4")).join();
+        assertThat(retried.getAmount()).isEqualByComparingTo("1.4");
+        awaitStored();
+        assertThat(auctionPlayerRepository.findById(auctionPlayer.getId()).orElseThrow().getCurrentPrice())
+                .isEqualByComparingTo("1.4");
+    }
+
+    @Test
+    void bidPathNeverReadsAuctionsOrBids() {
+        AuctionPlayer auctionPlayer = liveAuctionPlayer(BigDecimal.ONE);
+        Team team = team(BigDecimal.valueOf(100));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        long auctionLoadsBefore = statistics.getEntityStatistics(Auction.class.getName()).getLoadCount();
+        long bidLoadsBefore = statistics.getEntityStatistics(Bid.class.getName()).getLoadCount();
+        bidService.placeBid(auctionPlayer.getId(), team.getId(), new BigDecimal("1.2")).join();
+        awaitStored();
+
+        // Bids are only inserted, and the auction is never needed to place one
+        assertThat(statistics.getEntityStatistics(Auction.class.getName()).getLoadCount())
+                .isEqualTo(auctionLoadsBefore);
+        assertThat(statistics.getEntityStatistics(Bid.class.getName()).getLoadCount())
+                .isEqualTo(bidLoadsBefore);
+    }
+
+    /**
+     * Wait until the writer has stored every bid logged so far.
+     */
+    private void awaitStored() {
+        bidWriter.lastWrite().handle((bid, rejection) -> null).join();
+    }
+
+    private AuctionPlayer liveAuctionPlayer(BigDecimal basePrice) {
+        Auction auction = auctionService.createAuction();
+        auctionService.startAuction(auction.getId());
+
+        Player player = playerService.createPlayer("Player " + UUID.randomUUID(), PlayerCategory.BAT, basePrice);
+        AuctionPlayer auctionPlayer =
+                auctionPlayerService.addPlayerToAuction(auction.getId(), player.getId(), basePrice);
+
+        return auctionPlayerService.startAuctionPlayer(auctionPlayer.getId());
+    }
+
+    private Team team(BigDecimal purse) {
+        return teamService.createTeam("Team " + UUID.randomUUID(), purse);
+    }
+}
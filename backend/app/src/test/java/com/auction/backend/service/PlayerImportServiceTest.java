@@ -0,0 +1,99 @@
+package com.auction.backend.service;
+
+import com.auction.backend.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PlayerImportServiceTest {
+
+    @Autowired
+    private PlayerImportService playerImportService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void csvIsImportedInChunksAndBadRowsAreReported() {
+        StringBuilder csv = new StringBuilder("Name,basePrice,Category\n");
+        for (int i = 1; i <= 2500; i++) {
+            if (i == 7) {
+                csv.append("Bad category,1.00,KEEPER\n");
+            } else if (i == 1500) {
+                csv.append("\"Zero, price\",0,BAT\n");
+            } else {
+                csv.append("\"Player ").append(i).append("\",1.50,ar\n");
+            }
+        }
+        long before = playerRepository.count();
+
+        PlayerImportReport report = playerImportService.importPlayers(new StringReader(csv.toString()), PlayerImportService.Format.CSV);
+
+        assertThat(report.imported()).isEqualTo(2498);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.chunks()).extracting(PlayerImportReport.Chunk::lastRow).containsExactly(1000L, 2000L, 2500L);
+        assertThat(report.chunks().get(0).errors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.row()).isEqualTo(7);
+                    assertThat(error.message()).contains("KEEPER");
+                });
+        assertThat(report.chunks().get(1).errors()).extracting(PlayerImportReport.RowError::row).containsExactly(1500L);
+        assertThat(playerRepository.count() - before).isEqualTo(2498);
+    }
+
+    @Test
+    void jsonChunkRefusedByTheDatabaseIsRejectedAsAWhole() {
+        String json = """
+                [
+                  {"name": "Fits", "category": "WK", "basePrice": 2.00},
+                  {"name": "Overflows", "category": "BOWL", "basePrice": 123456789012.00},
+                  {"name": "No category", "basePrice": 1.00}
+                ]
+                """;
+        long before = playerRepository.count();
+
+        PlayerImportReport report = playerImportService.importPlayers(new StringReader(json), PlayerImportService.Format.JSON);
+
+        assertThat(report.imported()).isZero();
+        assertThat(report.rejected()).isEqualTo(3);
+        assertThat(report.chunks()).singleElement()
+                .satisfies(chunk -> assertThat(chunk.errors()).extracting(PlayerImportReport.RowError::message)
+                        .anySatisfy(message -> assertThat(message).startsWith("Chunk not saved"))
+                        .anySatisfy(message -> assertThat(message).contains("category")));
+        assertThat(playerRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void csvFieldSpanningLinesStopsTheImportAfterTheRowsReadSoFar() {
+        String csv = "name,category,basePrice\nOk,BAT,1.00\n\"Two\nlines\",BAT,1.00\nNever read,BAT,1.00\n";
+
+        PlayerImportReport report = playerImportService.importPlayers(new StringReader(csv), PlayerImportService.Format.CSV);
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(report.chunks().get(0).errors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.row()).isEqualTo(2);
+                    assertThat(error.message()).contains("line breaks");
+                });
+    }
+
+    @Test
+    void malformedJsonStopsTheImportAfterTheRowsReadSoFar() {
+        String json = "[{\"name\": \"Ok\", \"category\": \"BAT\", \"basePrice\": \"1.00\"}, {\"name\": ";
+
+        PlayerImportReport report = playerImportService.importPlayers(new StringReader(json), PlayerImportService.Format.JSON);
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(report.chunks().get(0).errors()).singleElement()
+                .satisfies(error -> assertThat(error.message()).startsWith("Malformed JSON"));
+    }
+}
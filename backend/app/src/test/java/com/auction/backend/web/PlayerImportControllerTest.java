@@ -0,0 +1,49 @@
+package com.auction.backend.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PlayerImportControllerTest {
+
+    private static final MockMultipartFile CSV = new MockMultipartFile(
+            "file",
+            "players.csv",
+            "text/csv",
+            "name,category,basePrice\nUploaded One,BAT,1.50\nUploaded Two,KEEPER,1.00\n".getBytes(StandardCharsets.UTF_8)
+    );
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminsUploadAFileAndGetTheImportReport() throws Exception {
+        mockMvc.perform(multipart("/api/players/import").file(CSV).param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.chunks[0].errors[0].row").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEAM_USER")
+    void teamUsersCannotImport() throws Exception {
+        mockMvc.perform(multipart("/api/players/import").file(CSV).param("format", "CSV"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,81 @@
+package com.auction.bench;
+
+import com.auction.backend.AuctionBackendApplication;
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.service.AuctionPlayerService;
+import com.auction.backend.service.AuctionService;
+import com.auction.backend.service.PlayerService;
+import com.auction.backend.service.TeamService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full application on an embedded H2 database, for benchmarks that go
+ * through the services, the bid engine and JPA.
+ *
+ * Timers are set to an hour so nothing closes between iterations; the bid
+ * event log goes to a fresh file under the temp directory.
+ */
+final class BenchContext {
+
+    /** Largest purse the purse column (precision 10, scale 2) holds. */
+    static final BigDecimal MAX_PURSE = new BigDecimal("99999999.00");
+
+    private BenchContext() {
+    }
+
+    /**
+     * @param overrides extra settings, as --key=value arguments
+     */
+    static ConfigurableApplicationContext start(String... overrides) {
+        // Command-line arguments: they override application.yml, default properties do not
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:bench_" + UUID.randomUUID()
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.flyway.enabled=false", // schema from the mappings, with H2's own dialect
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--auction.bidding.event-log.path="
+                        + Path.of(System.getProperty("java.io.tmpdir"), "auction-bench", UUID.randomUUID() + ".log"),
+                "--auction.timer.initial=1h",
+                "--auction.timer.after-bid=1h"
+        ));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(AuctionBackendApplication.class).run(args.toArray(String[]::new));
+    }
+
+    static Auction liveAuction(ConfigurableApplicationContext context) {
+        AuctionService auctionService = context.getBean(AuctionService.class);
+        Auction auction = auctionService.createAuction();
+        return auctionService.startAuction(auction.getId());
+    }
+
+    static AuctionPlayer addPlayer(ConfigurableApplicationContext context, Auction auction) {
+        Player player = context.getBean(PlayerService.class)
+                .createPlayer("Player " + UUID.randomUUID(), PlayerCategory.BAT, BigDecimal.ONE);
+        return context.getBean(AuctionPlayerService.class)
+                .addPlayerToAuction(auction.getId(), player.getId(), BigDecimal.ONE);
+    }
+
+    static Team team(ConfigurableApplicationContext context) {
+        return context.getBean(TeamService.class).createTeam("Team " + UUID.randomUUID(), MAX_PURSE);
+    }
+}
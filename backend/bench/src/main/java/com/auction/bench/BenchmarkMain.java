@@ -0,0 +1,26 @@
+package com.auction.bench;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JMH entry point that writes machine-readable results by default
+ * (JSON, to jmh-result.json), so runs can be compared commit to commit.
+ * An explicit -rf on the command line wins.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<>(Arrays.asList(args));
+        if (!options.contains("-rf")) {
+            options.addAll(0, List.of("-rf", "json"));
+        }
+        Main.main(options.toArray(String[]::new));
+    }
+}
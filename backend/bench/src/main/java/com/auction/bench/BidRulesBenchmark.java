@@ -0,0 +1,43 @@
+package com.auction.bench;
+
+import com.auction.backend.domain.BidRules;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bid validation on its own (runs on the auction lane for every bid):
+ * increment check, and full amount resolution below and above the 5 cr threshold.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidRulesBenchmark {
+
+    @Param({"1.0", "12.5"})
+    private String price;
+
+    private BigDecimal currentPrice;
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        currentPrice = new BigDecimal(price);
+        amount = BidRules.nextValidBid(currentPrice);
+    }
+
+    @Benchmark
+    public void validateIncrement() {
+        BidRules.validateIncrement(currentPrice, amount);
+    }
+
+    @Benchmark
+    public void resolveAmount(Blackhole blackhole) {
+        blackhole.consume(BidRules.resolveAmount(currentPrice, null, null, 1L, BenchContext.MAX_PURSE, amount));
+    }
+}
@@ -0,0 +1,103 @@
+package com.auction.bench;
+
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.Bid;
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.domain.Team;
+import com.auction.backend.repository.AuctionPlayerRepository;
+import com.auction.backend.repository.BidRepository;
+import com.auction.backend.repository.PlayerRepository;
+import com.auction.backend.repository.TeamRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput on embedded H2: 10k players, 100k bids.
+ *
+ * batchSize=1 sends one INSERT per row (what IDENTITY ids forced on every
+ * entity); batchSize=50 is the configured JDBC batch size, possible now
+ * that ids come from pooled sequences (players) or from the bid event log (bids).
+ * Each transaction stores one chunk, as a bulk import or BidWriter would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int PLAYERS = 10_000;
+    private static final int BIDS = 100_000;
+    private static final int CHUNK = 1_000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private PlayerRepository playerRepository;
+    private BidRepository bidRepository;
+    private Long auctionPlayerId;
+    private Long teamId;
+    private long lastBidId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchContext.start("--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        playerRepository = context.getBean(PlayerRepository.class);
+        bidRepository = context.getBean(BidRepository.class);
+
+        AuctionPlayer auctionPlayer = BenchContext.addPlayer(context, BenchContext.liveAuction(context));
+        auctionPlayerId = auctionPlayer.getId();
+        teamId = BenchContext.team(context).getId();
+        lastBidId = Objects.requireNonNullElse(bidRepository.findMaxId(), 0L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLAYERS)
+    public void players() {
+        for (int from = 0; from < PLAYERS; from += CHUNK) {
+            List<Player> chunk = new ArrayList<>(CHUNK);
+            for (int i = 0; i < CHUNK; i++) {
+                chunk.add(new Player("Player " + (from + i), PlayerCategory.BAT, BigDecimal.ONE));
+            }
+            transactionTemplate.executeWithoutResult(status -> playerRepository.saveAll(chunk));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BIDS)
+    public void bids() {
+        AuctionPlayerRepository auctionPlayerRepository = context.getBean(AuctionPlayerRepository.class);
+        TeamRepository teamRepository = context.getBean(TeamRepository.class);
+        Instant now = Instant.now();
+
+        for (int from = 0; from < BIDS; from += CHUNK) {
+            transactionTemplate.executeWithoutResult(status -> {
+                AuctionPlayer auctionPlayer = auctionPlayerRepository.getReferenceById(auctionPlayerId);
+                Team team = teamRepository.getReferenceById(teamId);
+                List<Bid> chunk = new ArrayList<>(CHUNK);
+                for (int i = 0; i < CHUNK; i++) {
+                    chunk.add(new Bid(++lastBidId, auctionPlayer, team, BigDecimal.TEN, now));
+                }
+                bidRepository.saveAll(chunk);
+            });
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.auction.bench;
+
+import com.auction.backend.domain.Auction;
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.BidRules;
+import com.auction.backend.domain.Team;
+import com.auction.backend.engine.BidWriter;
+import com.auction.backend.service.AuctionPlayerService;
+import com.auction.backend.service.BidService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GraphQL execution of the board and bid history queries, as the frontend
+ * sends them, from document parsing to the serialized result (no HTTP).
+ *
+ * Data: one auction with `players` auction players, one of them LIVE with
+ * `bids` bids from four teams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5) // JIT-compiling the whole request path takes a while
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphQlQueryBenchmark {
+
+    private static final String AUCTION_PLAYERS = """
+            query GetAuctionPlayers($auctionId: ID!) {
+              auctionPlayers(auctionId: $auctionId) {
+                id
+                currentPrice
+                status
+                timerEndAt
+                player { id name category basePrice }
+                currentHighestBidTeam { id name }
+              }
+            }
+            """;
+
+    private static final String BIDS = """
+            query GetBids($auctionPlayerId: ID!) {
+              bids(auctionPlayerId: $auctionPlayerId) {
+                id
+                amount
+                createdAt
+                team { id name }
+              }
+            }
+            """;
+
+    @Param({"50"})
+    private int players;
+
+    @Param({"100"})
+    private int bids;
+
+    private final AtomicLong requestIds = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private ExecutionGraphQlService graphQlService;
+    private Long auctionId;
+    private Long liveAuctionPlayerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchContext.start();
+        graphQlService = context.getBean(ExecutionGraphQlService.class);
+
+        Auction auction = BenchContext.liveAuction(context);
+        auctionId = auction.getId();
+
+        List<AuctionPlayer> auctionPlayers = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            auctionPlayers.add(BenchContext.addPlayer(context, auction));
+        }
+
+        liveAuctionPlayerId = context.getBean(AuctionPlayerService.class)
+                .startAuctionPlayer(auctionPlayers.get(0).getId())
+                .getId();
+
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            teams.add(BenchContext.team(context));
+        }
+
+        BidService bidService = context.getBean(BidService.class);
+        BigDecimal price = BigDecimal.ONE;
+        for (int i = 0; i < bids; i++) {
+            price = BidRules.nextValidBid(price);
+            bidService.placeBid(liveAuctionPlayerId, teams.get(i % teams.size()).getId(), price).join();
+        }
+        context.getBean(BidWriter.class).lastWrite().join(); // bids are stored in the background
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object auctionPlayers() {
+        return execute(AUCTION_PLAYERS, Map.of("auctionId", auctionId));
+    }
+
+    @Benchmark
+    public Object bids() {
+        return execute(BIDS, Map.of("auctionPlayerId", liveAuctionPlayerId));
+    }
+
+    private Object execute(String document, Map<String, Object> variables) {
+        ExecutionGraphQlResponse response = graphQlService.execute(new DefaultExecutionGraphQlRequest(
+                document, null, variables, null, String.valueOf(requestIds.incrementAndGet()), Locale.ENGLISH
+        )).block();
+
+        if (!response.isValid() || !response.getErrors().isEmpty()) {
+            throw new IllegalStateException("Query failed: " + response.getErrors());
+        }
+        return response.toMap();
+    }
+}
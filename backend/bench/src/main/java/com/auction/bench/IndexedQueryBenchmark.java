@@ -0,0 +1,158 @@
+package com.auction.bench;
+
+import com.auction.backend.domain.Player;
+import com.auction.backend.domain.PlayerCategory;
+import com.auction.backend.repository.AuctionPlayerRepository;
+import com.auction.backend.repository.BidRepository;
+import com.auction.backend.service.PlayerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board (auction players of an auction) and bid history (bids of a player,
+ * by time) queries against millions of bids, with and without the
+ * composite indexes.
+ *
+ * indexes=composite is the schema as mapped; indexes=foreignKey replaces
+ * the composite indexes with the single-column ones MySQL creates for
+ * foreign keys, i.e. the schema before they were added.
+ *
+ * Data: `auctions` auctions of 100 players each, `bids` bids spread evenly
+ * over all players and interleaved in time, inserted with plain JDBC.
+ * Seeding a million bids takes a few seconds; pass -p bids=5000000 for more.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class IndexedQueryBenchmark {
+
+    private static final int PLAYERS_PER_AUCTION = 100;
+    private static final int BATCH = 10_000;
+    private static final long FIRST_ID = 1_000_000_000L; // clear of the sequences
+
+    @Param({"composite", "foreignKey"})
+    private String indexes;
+
+    @Param({"200"})
+    private int auctions;
+
+    @Param({"1000000"})
+    private int bids;
+
+    private ConfigurableApplicationContext context;
+    private AuctionPlayerRepository auctionPlayerRepository;
+    private BidRepository bidRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchContext.start();
+        auctionPlayerRepository = context.getBean(AuctionPlayerRepository.class);
+        bidRepository = context.getBean(BidRepository.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        if (indexes.equals("foreignKey")) {
+            dropCompositeIndexes(jdbc);
+        }
+
+        Player player = context.getBean(PlayerService.class).createPlayer("Seed", PlayerCategory.BAT, BigDecimal.ONE);
+        List<Long> teamIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            teamIds.add(BenchContext.team(context).getId());
+        }
+        seed(jdbc, player.getId(), teamIds);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object board() {
+        long auctionId = FIRST_ID + ThreadLocalRandom.current().nextInt(auctions);
+        return auctionPlayerRepository.findByAuctionId(auctionId);
+    }
+
+    @Benchmark
+    public Object history() {
+        long auctionPlayerId = FIRST_ID + ThreadLocalRandom.current().nextInt(auctions * PLAYERS_PER_AUCTION);
+        return bidRepository.findByAuctionPlayerIdOrderByCreatedAtAsc(auctionPlayerId);
+    }
+
+    /**
+     * Foreign keys keep their own single-column index once the composite
+     * one, which was covering them, is gone.
+     */
+    private static void dropCompositeIndexes(JdbcTemplate jdbc) {
+        for (String table : List.of("bids", "auction_players")) {
+            List<String> foreignKeys = jdbc.queryForList(
+                    "select constraint_name from information_schema.table_constraints "
+                            + "where table_name = ? and constraint_type = 'FOREIGN KEY'",
+                    String.class, table
+            );
+            for (String foreignKey : foreignKeys) {
+                jdbc.execute("alter table " + table + " drop constraint " + foreignKey);
+            }
+        }
+        jdbc.execute("drop index idx_bids_auction_player_created");
+        jdbc.execute("drop index idx_auction_players_auction_status");
+        jdbc.execute("create index fk_bids_auction_player on bids (auction_player_id)");
+        jdbc.execute("create index fk_bids_team on bids (team_id)");
+        jdbc.execute("create index fk_auction_players_auction on auction_players (auction_id)");
+    }
+
+    private void seed(JdbcTemplate jdbc, Long playerId, List<Long> teamIds) {
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<Object[]> auctionRows = new ArrayList<>();
+        for (int a = 0; a < auctions; a++) {
+            auctionRows.add(new Object[]{FIRST_ID + a, "LIVE", now});
+        }
+        jdbc.batchUpdate("insert into auctions (id, status, created_at) values (?, ?, ?)", auctionRows);
+
+        int auctionPlayers = auctions * PLAYERS_PER_AUCTION;
+        List<Object[]> auctionPlayerRows = new ArrayList<>();
+        for (int p = 0; p < auctionPlayers; p++) {
+            auctionPlayerRows.add(new Object[]{
+                    FIRST_ID + p, FIRST_ID + p / PLAYERS_PER_AUCTION, playerId, 1, 1, p % 3 == 0 ? "SOLD" : "NOT_STARTED", now, 0
+            });
+        }
+        jdbc.batchUpdate("insert into auction_players "
+                + "(id, auction_id, player_id, base_price, current_price, status, created_at, version) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)", auctionPlayerRows);
+
+        // Round-robin over the players: each player's history is scattered across the table
+        Instant start = Instant.now().minusSeconds(bids);
+        List<Object[]> bidRows = new ArrayList<>(BATCH);
+        for (int b = 0; b < bids; b++) {
+            bidRows.add(new Object[]{
+                    FIRST_ID + b,
+                    FIRST_ID + b % auctionPlayers,
+                    teamIds.get(b % teamIds.size()),
+                    1 + b / auctionPlayers,
+                    Timestamp.from(start.plusMillis(b))
+            });
+            if (bidRows.size() == BATCH) {
+                insertBids(jdbc, bidRows);
+            }
+        }
+        insertBids(jdbc, bidRows);
+    }
+
+    private static void insertBids(JdbcTemplate jdbc, List<Object[]> rows) {
+        jdbc.batchUpdate("insert into bids (id, auction_player_id, team_id, amount, created_at) values (?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+}
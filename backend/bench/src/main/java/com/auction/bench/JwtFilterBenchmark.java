@@ -0,0 +1,125 @@
+package com.auction.bench;
+
+import com.auction.backend.domain.Role;
+import com.auction.backend.security.AuctionUserDetails;
+import com.auction.backend.security.JwtAuthenticationFilter;
+import com.auction.backend.security.JwtTokenProvider;
+import com.auction.backend.security.TokenVersionRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT part of the request path: what JwtAuthenticationFilter costs per request.
+ *
+ * - legacyValidateThenParse: the previous filter behaviour, which built a key and
+ *   parser and verified the token twice (validateToken + getUsernameFromToken)
+ * - filterUncached: full filter, single parse, verification cache disabled
+ * - filterCached: full filter, same bearer token on every request (cache hit)
+ * - validateUncached / validateCached: JwtTokenProvider.validateToken on its own
+ *
+ * The token version lookup is stubbed so only the token handling is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET =
+            "benchmark-secret-key-that-is-long-enough-for-the-hs256-algorithm-to-accept-it";
+    private static final long EXPIRATION_MS = 86_400_000;
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private String token;
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        AuctionUserDetails user = new AuctionUserDetails(
+                1L, "bench-user", "{noop}secret", Role.TEAM_USER, 1L, 0,
+                List.of(new SimpleGrantedAuthority("ROLE_TEAM_USER"))
+        );
+        TokenVersionRegistry tokenVersions = new TokenVersionRegistry(userId -> 0, Duration.ofMinutes(1));
+
+        cachedProvider = new JwtTokenProvider(SECRET, EXPIRATION_MS, 10_000, Duration.ofMinutes(5));
+        uncachedProvider = new JwtTokenProvider(SECRET, EXPIRATION_MS, 0, Duration.ofMinutes(5));
+
+        token = cachedProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
+        );
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider, tokenVersions, meterRegistry);
+        uncachedFilter = new JwtAuthenticationFilter(uncachedProvider, tokenVersions, meterRegistry);
+
+        request = new MockHttpServletRequest("POST", "/graphql");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void legacyValidateThenParse(Blackhole blackhole) {
+        // validateToken
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        blackhole.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token));
+
+        // getUsernameFromToken
+        SecretKey keyAgain = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        Claims claims = Jwts.parser().verifyWith(keyAgain).build().parseSignedClaims(token).getPayload();
+        blackhole.consume(claims.getSubject());
+    }
+
+    @Benchmark
+    public Object filterUncached() throws Exception {
+        return runFilter(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    @Benchmark
+    public boolean validateUncached() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateCached() {
+        return cachedProvider.validateToken(token);
+    }
+
+    private Object runFilter(JwtAuthenticationFilter filter) throws Exception {
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
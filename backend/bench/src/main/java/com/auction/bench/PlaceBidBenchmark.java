@@ -0,0 +1,140 @@
+package com.auction.bench;
+
+import com.auction.backend.domain.AuctionPlayer;
+import com.auction.backend.domain.BidRules;
+import com.auction.backend.domain.Team;
+import com.auction.backend.engine.BidEngine;
+import com.auction.backend.service.AuctionPlayerService;
+import com.auction.backend.service.BidService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full placeBid: lane validation and append to the bid event log, which is
+ * when the bidder is answered. Storing in embedded H2 happens in the background.
+ *
+ * - singleBidder: one team raising one player, no contention
+ * - contended: eight teams raising the same player at once; every team
+ *   bids the next valid amount over the price it last saw, so most bids
+ *   race (the loser is recorded as next valid bid) and some are rejected
+ * - separateAuctions: eight teams, each raising a player in an auction of
+ *   its own; the auctions sit on different lanes (eight lanes), which share
+ *   nothing on the way to their own bid event log
+ *
+ * The accepted/rejected counters show how the contended calls ended.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5) // JIT-compiling the whole request path takes a while
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceBidBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private BidService bidService;
+    private BidEngine bidEngine;
+    private Long auctionPlayerId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchContext.start("--auction.bidding.lanes=8");
+        bidService = context.getBean(BidService.class);
+        bidEngine = context.getBean(BidEngine.class);
+    }
+
+    /**
+     * Fresh LIVE player per iteration so the price stays in a realistic range.
+     */
+    @Setup(Level.Iteration)
+    public void startPlayer() {
+        AuctionPlayerService auctionPlayerService = context.getBean(AuctionPlayerService.class);
+        AuctionPlayer auctionPlayer = BenchContext.addPlayer(context, BenchContext.liveAuction(context));
+        auctionPlayerId = auctionPlayerService.startAuctionPlayer(auctionPlayer.getId()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Bidder {
+
+        Long teamId;
+
+        @Setup(Level.Trial)
+        public void createTeam(PlaceBidBenchmark benchmark) {
+            Team team = BenchContext.team(benchmark.context);
+            teamId = team.getId();
+        }
+    }
+
+    /**
+     * LIVE player in an auction of the thread's own, fresh per iteration.
+     */
+    @State(Scope.Thread)
+    public static class OwnAuction {
+
+        Long auctionPlayerId;
+
+        @Setup(Level.Iteration)
+        public void startPlayer(PlaceBidBenchmark benchmark) {
+            AuctionPlayerService auctionPlayerService = benchmark.context.getBean(AuctionPlayerService.class);
+            AuctionPlayer auctionPlayer = BenchContext.addPlayer(benchmark.context, BenchContext.liveAuction(benchmark.context));
+            auctionPlayerId = auctionPlayerService.startAuctionPlayer(auctionPlayer.getId()).getId();
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+
+        public long accepted;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            accepted = 0;
+            rejected = 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object singleBidder(Bidder bidder, Outcomes outcomes) {
+        return bid(bidder, outcomes);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object contended(Bidder bidder, Outcomes outcomes) {
+        return bid(bidder, outcomes);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object separateAuctions(Bidder bidder, OwnAuction auction, Outcomes outcomes) {
+        return bid(auction.auctionPlayerId, bidder, outcomes);
+    }
+
+    private Object bid(Bidder bidder, Outcomes outcomes) {
+        return bid(auctionPlayerId, bidder, outcomes);
+    }
+
+    private Object bid(Long auctionPlayerId, Bidder bidder, Outcomes outcomes) {
+        BigDecimal amount = BidRules.nextValidBid(bidEngine.find(auctionPlayerId).getCurrentPrice());
+        try {
+            Object bid = bidService.placeBid(auctionPlayerId, bidder.teamId, amount).join();
+            outcomes.accepted++;
+            return bid;
+        } catch (CompletionException ex) {
+            outcomes.rejected++;
+            return ex;
+        }
+    }
+}
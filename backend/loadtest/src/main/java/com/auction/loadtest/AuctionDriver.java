@@ -0,0 +1,279 @@
+package com.auction.loadtest;
+
+import com.auction.backend.domain.BidRules;
+import com.auction.backend.domain.PlayerCategory;
+import tools.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs one auction: puts players under the hammer one after the other and
+ * has the teams bid on them until the duration is over.
+ *
+ * Bids arrive as a Poisson process at --rate per second, multiplied by
+ * --burst-factor once the timer is inside --burst-window. After an open
+ * phase (exponentially distributed, mean --open-phase) bidders only bid
+ * inside the burst window: last-second duels, each resetting the timer.
+ * Every team has a valuation per player and stops once the next valid bid
+ * is above it, so bidding dies down and the timer runs out.
+ *
+ * The auction's state (price, leader, deadline, whether the player is
+ * still LIVE) comes from polling auctionState, like a client screen, and
+ * from the answers to the team's own bids.
+ */
+final class AuctionDriver implements Runnable {
+
+    private static final String PLACE_BID = """
+            mutation Bid($input: PlaceBidInput!) {
+              placeBid(input: $input) { id amount }
+            }
+            """;
+
+    private static final String STATE = """
+            query State($auctionId: ID!) {
+              auctionState(auctionId: $auctionId) {
+                currentPlayer { auctionPlayerId currentPrice leadingTeamId timerEndAt }
+              }
+            }
+            """;
+
+    private static final String CREATE_PLAYER = """
+            mutation Player($input: CreatePlayerInput!) { createPlayer(input: $input) { id } }
+            """;
+
+    private static final String ADD_PLAYER = """
+            mutation Add($input: AddPlayerToAuctionInput!) { addPlayerToAuction(input: $input) { id } }
+            """;
+
+    private static final String START_PLAYER = """
+            mutation Start($id: ID!) { startAuctionPlayer(auctionPlayerId: $id) { id currentPrice timerEndAt } }
+            """;
+
+    private static final BigDecimal BASE_PRICE = BigDecimal.ONE;
+    private static final PlayerCategory[] CATEGORIES = PlayerCategory.values();
+
+    /**
+     * A team and its TEAM_USER's token.
+     */
+    record Bidder(long teamId, String token) {
+    }
+
+    /**
+     * The player under the hammer, as last seen.
+     */
+    private record Live(long auctionPlayerId, BigDecimal price, Long leadingTeamId, Instant timerEndAt) {
+    }
+
+    private final GraphQlClient client;
+    private final String adminToken;
+    private final List<Bidder> bidders;
+    private final long auctionId;
+    private final LoadTestOptions options;
+    private final LoadReport report;
+    private final AtomicInteger inFlight;
+    private final Instant deadline;
+
+    private Live live; // null between players; guarded by this
+    private double[] valuations; // per bidder, for the current player
+    private Instant openUntil; // bidding at any time until then, for the current player
+
+    AuctionDriver(
+            GraphQlClient client,
+            String adminToken,
+            List<Bidder> bidders,
+            long auctionId,
+            LoadTestOptions options,
+            LoadReport report,
+            AtomicInteger inFlight,
+            Instant deadline
+    ) {
+        this.client = client;
+        this.adminToken = adminToken;
+        this.bidders = bidders;
+        this.auctionId = auctionId;
+        this.options = options;
+        this.report = report;
+        this.inFlight = inFlight;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public void run() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (Instant.now().isBefore(deadline)) {
+            Live current = live();
+            if (current == null) {
+                startNextPlayer();
+                continue;
+            }
+
+            // Past the deadline too: late bids keep coming until the close is seen
+            Instant now = Instant.now();
+            Duration left = Duration.between(now, current.timerEndAt());
+            boolean inBurst = left.compareTo(options.burstWindow()) < 0;
+            if (!inBurst && now.isAfter(openUntil)) {
+                // Snipers wait for the last seconds (or for a poll showing the timer moved)
+                LockSupport.parkNanos(Math.min(left.minus(options.burstWindow()).toNanos(), options.poll().toNanos()));
+                continue;
+            }
+            double rate = inBurst ? options.rate() * options.burstFactor() : options.rate();
+            LockSupport.parkNanos((long) (-Math.log(1 - random.nextDouble()) / rate * TimeUnit.SECONDS.toNanos(1)));
+
+            current = live();
+            if (current == null) {
+                continue;
+            }
+            BigDecimal amount = BidRules.nextValidBid(current.price());
+            List<Integer> interested = new ArrayList<>();
+            for (int i = 0; i < bidders.size(); i++) {
+                boolean leading = current.leadingTeamId() != null && current.leadingTeamId() == bidders.get(i).teamId();
+                if (!leading && amount.doubleValue() <= valuations[i]) {
+                    interested.add(i);
+                }
+            }
+            if (!interested.isEmpty()) {
+                placeBid(current, bidders.get(interested.get(random.nextInt(interested.size()))), amount, inBurst);
+            }
+        }
+    }
+
+    /**
+     * Refresh from auctionState; notices when the current player was closed.
+     */
+    void poll() {
+        Live polled = live();
+        if (polled == null) {
+            return;
+        }
+        client.execute(null, STATE, Map.of("auctionId", auctionId)).thenAccept(result -> {
+            if (!result.ok()) {
+                return;
+            }
+            JsonNode player = result.data().path("auctionState").path("currentPlayer");
+            synchronized (this) {
+                if (live == null || live.auctionPlayerId() != polled.auctionPlayerId()) {
+                    return; // moved on meanwhile
+                }
+                if (player.isNull() || player.isMissingNode()
+                        || player.path("auctionPlayerId").asLong() != polled.auctionPlayerId()) {
+                    report.closed(live.leadingTeamId() != null);
+                    live = null;
+                    return;
+                }
+                JsonNode leader = player.path("leadingTeamId");
+                live = seen(live, player.path("currentPrice").decimalValue(),
+                        leader.isNull() ? null : leader.asLong(),
+                        Instant.parse(player.path("timerEndAt").asString()));
+            }
+        });
+    }
+
+    private void placeBid(Live current, Bidder bidder, BigDecimal amount, boolean inBurst) {
+        Map<String, Object> input = Map.of(
+                "auctionPlayerId", current.auctionPlayerId(),
+                "teamId", bidder.teamId(),
+                "amount", amount.doubleValue()
+        );
+        long sentAt = System.nanoTime();
+        inFlight.incrementAndGet();
+        client.execute(bidder.token(), PLACE_BID, Map.of("input", input)).whenComplete((result, failure) -> {
+            try {
+                if (failure != null) {
+                    report.bid(sentAt, inBurst, "io_error");
+                } else if (result.ok()) {
+                    report.bid(sentAt, inBurst, null);
+                    accepted(current.auctionPlayerId(), bidder.teamId(), result.data().path("placeBid").path("amount").decimalValue());
+                } else {
+                    report.bid(sentAt, inBurst, result.reason());
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private synchronized void accepted(long auctionPlayerId, long teamId, BigDecimal amount) {
+        if (live != null && live.auctionPlayerId() == auctionPlayerId) {
+            live = seen(live, amount, teamId, live.timerEndAt());
+        }
+    }
+
+    /**
+     * Answers and polls arrive out of order: only a higher price moves the state on.
+     */
+    private static Live seen(Live current, BigDecimal price, Long leadingTeamId, Instant timerEndAt) {
+        if (price.compareTo(current.price()) > 0) {
+            return new Live(current.auctionPlayerId(), price, leadingTeamId, timerEndAt);
+        }
+        if (price.compareTo(current.price()) == 0) {
+            return new Live(current.auctionPlayerId(), current.price(), current.leadingTeamId(), timerEndAt);
+        }
+        return current;
+    }
+
+    private synchronized Live live() {
+        return live;
+    }
+
+    long auctionId() {
+        return auctionId;
+    }
+
+    /**
+     * The player under the hammer, null between players.
+     */
+    Long currentAuctionPlayerId() {
+        Live current = live();
+        return current == null ? null : current.auctionPlayerId();
+    }
+
+    /**
+     * Admin side: create a player, schedule it and put it under the hammer.
+     */
+    private void startNextPlayer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long playerId = client.call(adminToken, CREATE_PLAYER, Map.of("input", Map.of(
+                "name", "Load player " + auctionId + "-" + System.nanoTime(),
+                "category", CATEGORIES[random.nextInt(CATEGORIES.length)].name(),
+                "basePrice", BASE_PRICE.doubleValue()
+        ))).require().path("createPlayer").path("id").asLong();
+
+        long auctionPlayerId = client.call(adminToken, ADD_PLAYER, Map.of("input", Map.of(
+                "auctionId", auctionId,
+                "playerId", playerId,
+                "basePrice", BASE_PRICE.doubleValue()
+        ))).require().path("addPlayerToAuction").path("id").asLong();
+
+        JsonNode started = client.call(adminToken, START_PLAYER, Map.of("id", auctionPlayerId))
+                .require().path("startAuctionPlayer");
+
+        double[] next = new double[bidders.size()];
+        for (int i = 0; i < next.length; i++) {
+            next[i] = BASE_PRICE.doubleValue() * (1 + random.nextDouble() * (options.maxValuation() - 1));
+        }
+
+        long openMillis = (long) (-Math.log(1 - random.nextDouble()) * options.openPhase().toMillis());
+
+        synchronized (this) {
+            valuations = next;
+            openUntil = Instant.now().plusMillis(openMillis);
+            live = new Live(
+                    auctionPlayerId,
+                    started.path("currentPrice").decimalValue(),
+                    null,
+                    Instant.parse(started.path("timerEndAt").asString())
+            );
+        }
+    }
+}
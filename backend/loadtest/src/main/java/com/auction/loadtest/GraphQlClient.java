@@ -0,0 +1,89 @@
+package com.auction.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * GraphQL over HTTP, the way the frontend talks to the backend.
+ *
+ * Requests are sent asynchronously so a slow answer never delays the next
+ * bid (open model: the offered load does not drop when the server slows down).
+ */
+final class GraphQlClient {
+
+    private final URI endpoint;
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    GraphQlClient(URI endpoint) {
+        this.endpoint = endpoint;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Outcome of one request: data, or the first error's message and reason.
+     */
+    record Result(JsonNode data, String error, String reason) {
+
+        boolean ok() {
+            return error == null;
+        }
+
+        /**
+         * Data, for setup calls that must not fail.
+         */
+        JsonNode require() {
+            if (!ok()) {
+                throw new IllegalStateException("GraphQL request failed: " + error);
+            }
+            return data;
+        }
+    }
+
+    CompletableFuture<Result> execute(String token, String document, Map<String, Object> variables) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("query", document);
+        body.put("variables", variables);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(endpoint)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                .thenApply(this::result);
+    }
+
+    Result call(String token, String document, Map<String, Object> variables) {
+        return execute(token, document, variables).join();
+    }
+
+    private Result result(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            return new Result(null, "HTTP " + response.statusCode(), "http_" + response.statusCode());
+        }
+        JsonNode json = jsonMapper.readTree(response.body());
+        JsonNode errors = json.path("errors");
+        if (errors.isArray() && !errors.isEmpty()) {
+            JsonNode error = errors.get(0);
+            String reason = error.path("extensions").path("reason").asString("");
+            return new Result(null, error.path("message").asString(), reason.isEmpty() ? "error" : reason);
+        }
+        return new Result(json.path("data"), null, null);
+    }
+}
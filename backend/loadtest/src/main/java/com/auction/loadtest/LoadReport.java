@@ -0,0 +1,137 @@
+package com.auction.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bid latencies (send to answer, in microseconds) and outcomes.
+ *
+ * Bids placed inside the burst window are also kept apart: that tail is
+ * what bidders feel in the final seconds. Polls (see Pollers) get their own
+ * histogram. Bids sent before the end of the warmup only show in the
+ * interval lines, polls not at all. Thread safe.
+ */
+final class LoadReport {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram all = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    private final Histogram burst = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    private final Histogram polls = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    private final Recorder interval = new Recorder(HIGHEST_MICROS, 3);
+
+    private final LongAdder accepted = new LongAdder();
+    private final Map<String, LongAdder> rejected = new ConcurrentHashMap<>();
+    private final LongAdder sold = new LongAdder();
+    private final LongAdder unsold = new LongAdder();
+    private final LongAdder pollsFailed = new LongAdder();
+
+    private final long measureFromNanos;
+    private final LongAdder intervalAccepted = new LongAdder();
+    private long intervalAcceptedBefore;
+
+    LoadReport(Duration warmup) {
+        this.measureFromNanos = System.nanoTime() + warmup.toNanos();
+    }
+
+    void bid(long sentAtNanos, boolean inBurst, String rejection) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAtNanos), HIGHEST_MICROS);
+        interval.recordValue(micros);
+        if (rejection == null) {
+            intervalAccepted.increment();
+        }
+        if (sentAtNanos < measureFromNanos) {
+            return;
+        }
+
+        all.recordValue(micros);
+        if (inBurst) {
+            burst.recordValue(micros);
+        }
+        if (rejection == null) {
+            accepted.increment();
+        } else {
+            rejected.computeIfAbsent(rejection, reason -> new LongAdder()).increment();
+        }
+    }
+
+    void poll(long sentAtNanos, boolean ok) {
+        if (sentAtNanos < measureFromNanos) {
+            return;
+        }
+        polls.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAtNanos), HIGHEST_MICROS));
+        if (!ok) {
+            pollsFailed.increment();
+        }
+    }
+
+    void closed(boolean wasSold) {
+        (wasSold ? sold : unsold).increment();
+    }
+
+    /**
+     * One line for the period since the previous call.
+     */
+    synchronized void printInterval(PrintStream out, Duration elapsed, Duration period) {
+        Histogram latest = interval.getIntervalHistogram();
+        long acceptedNow = intervalAccepted.sum();
+        double seconds = period.toMillis() / 1000.0;
+        out.printf("[%5ds] answered %8.1f/s  accepted %8.1f/s  p50 %7.2fms  p99 %7.2fms  p99.9 %7.2fms%n",
+                elapsed.toSeconds(),
+                latest.getTotalCount() / seconds,
+                (acceptedNow - intervalAcceptedBefore) / seconds,
+                millis(latest, 50), millis(latest, 99), millis(latest, 99.9));
+        intervalAcceptedBefore = acceptedNow;
+    }
+
+    /**
+     * @param elapsed measured time: the duration without the warmup
+     */
+    void printSummary(PrintStream out, Duration elapsed) {
+        double seconds = elapsed.toMillis() / 1000.0;
+        long sent = all.getTotalCount();
+        long acceptedCount = accepted.sum();
+
+        out.println();
+        out.printf("Bids        sent %d (%.1f/s), accepted %d (%.1f%%, %.1f/s), rejected %d%n",
+                sent, sent / seconds,
+                acceptedCount, sent == 0 ? 0.0 : 100.0 * acceptedCount / sent, acceptedCount / seconds,
+                sent - acceptedCount);
+
+        Map<String, Long> reasons = new TreeMap<>();
+        rejected.forEach((reason, count) -> reasons.put(reason, count.sum()));
+        out.println("Rejections  " + (reasons.isEmpty() ? "none" : reasons));
+
+        out.printf("Latency     %10s %10s %10s %10s %10s%n", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "bids");
+        printLatency(out, "all", all);
+        printLatency(out, "burst", burst);
+        if (polls.getTotalCount() > 0) {
+            printLatency(out, "poll", polls);
+        }
+
+        out.printf("Players     sold %d, unsold %d%n", sold.sum(), unsold.sum());
+        if (polls.getTotalCount() > 0) {
+            out.printf("Polls       answered %d (%.1f/s), failed %d%n",
+                    polls.getTotalCount(), polls.getTotalCount() / seconds, pollsFailed.sum());
+        }
+    }
+
+    private static void printLatency(PrintStream out, String label, Histogram histogram) {
+        out.printf("  %-9s %10.2f %10.2f %10.2f %10.2f %10d%n", label,
+                millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0, histogram.getTotalCount());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
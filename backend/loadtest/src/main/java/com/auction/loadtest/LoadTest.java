@@ -0,0 +1,200 @@
+package com.auction.loadtest;
+
+import com.auction.backend.AuctionBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Auction-night load through the real GraphQL endpoint.
+ *
+ * Setup goes through the public API like a real event: an admin and one
+ * TEAM_USER per team register and log in (AuthMutationResolver), the admin
+ * creates the teams and starts the auctions. Then one AuctionDriver per
+ * auction bids until --duration is over, printing a line every
+ * --report-every and a summary at the end (latency percentiles,
+ * accept / reject ratio by reason, throughput). --pollers adds client
+ * screens polling the board and bid history meanwhile.
+ *
+ * Platform vs virtual threads: run the same options twice, changing only
+ * --virtual-threads, e.g.
+ *
+ *   java -jar loadtest/target/loadtest.jar --pollers=5000 --duration=120s --warmup=30s --virtual-threads=false
+ *   java -jar loadtest/target/loadtest.jar --pollers=5000 --duration=120s --warmup=30s --virtual-threads=true
+ *
+ * and compare the poll and bid percentiles and the failed polls. The load
+ * generator, the backend and H2 share this JVM: on a machine without cores
+ * to spare the runs measure CPU saturation rather than the thread model.
+ */
+public final class LoadTest {
+
+    private static final String REGISTER = """
+            mutation Register($input: RegisterInput!) { register(input: $input) { user { id } } }
+            """;
+
+    private static final String LOGIN = """
+            mutation Login($username: String!, $password: String!) { login(username: $username, password: $password) { token } }
+            """;
+
+    private static final String CREATE_TEAM = """
+            mutation Team($input: CreateTeamInput!) { createTeam(input: $input) { id } }
+            """;
+
+    private static final String CREATE_AUCTION = """
+            mutation { createAuction { id } }
+            """;
+
+    private static final String START_AUCTION = """
+            mutation Start($id: ID!) { startAuction(auctionId: $id) { id } }
+            """;
+
+    private static final String PASSWORD = "load-test-password";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext backend = null;
+        URI endpoint;
+        if (options.url() != null) {
+            endpoint = URI.create(options.url());
+        } else {
+            backend = startBackend(options);
+            endpoint = URI.create("http://localhost:" + backend.getEnvironment().getProperty("local.server.port") + "/graphql");
+        }
+
+        try {
+            run(options, new GraphQlClient(endpoint));
+        } finally {
+            if (backend != null) {
+                backend.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static void run(LoadTestOptions options, GraphQlClient client) throws InterruptedException {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        System.out.printf("Setting up %d teams and %d auctions (run %s)%n", options.teams(), options.auctions(), run);
+
+        String adminToken = signUp(client, "load_admin_" + run, "ADMIN", null);
+
+        List<AuctionDriver.Bidder> bidders = new ArrayList<>();
+        for (int i = 0; i < options.teams(); i++) {
+            long teamId = client.call(adminToken, CREATE_TEAM, Map.of("input", Map.of(
+                    "name", "Load team " + run + "-" + i,
+                    "purse", options.purse().doubleValue()
+            ))).require().path("createTeam").path("id").asLong();
+            bidders.add(new AuctionDriver.Bidder(teamId, signUp(client, "load_team_" + run + "_" + i, "TEAM_USER", teamId)));
+        }
+
+        AtomicInteger inFlight = new AtomicInteger();
+        Instant start = Instant.now();
+        LoadReport report = new LoadReport(options.warmup());
+        Instant deadline = start.plus(options.duration());
+
+        List<AuctionDriver> drivers = new ArrayList<>();
+        for (int i = 0; i < options.auctions(); i++) {
+            long auctionId = client.call(adminToken, CREATE_AUCTION, Map.of())
+                    .require().path("createAuction").path("id").asLong();
+            client.call(adminToken, START_AUCTION, Map.of("id", auctionId)).require();
+            drivers.add(new AuctionDriver(client, adminToken, bidders, auctionId, options, report, inFlight, deadline));
+        }
+
+        System.out.printf("Bidding for %ds at %.0f bids/s per auction (x%.0f in the last %dms)%n",
+                options.duration().toSeconds(), options.rate(), options.burstFactor(), options.burstWindow().toMillis());
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long pollMillis = options.poll().toMillis();
+        scheduler.scheduleAtFixedRate(() -> drivers.forEach(AuctionDriver::poll), pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        long reportMillis = options.reportEvery().toMillis();
+        scheduler.scheduleAtFixedRate(
+                () -> report.printInterval(System.out, Duration.between(start, Instant.now()), options.reportEvery()),
+                reportMillis, reportMillis, TimeUnit.MILLISECONDS
+        );
+
+        if (options.pollers() > 0) {
+            System.out.printf("Polling with %d clients every %dms%n", options.pollers(), options.pollerInterval().toMillis());
+            new Pollers(client, bidders, drivers, options, report, inFlight, scheduler, deadline).start();
+        }
+
+        List<Thread> threads = new ArrayList<>();
+        for (AuctionDriver driver : drivers) {
+            Thread thread = new Thread(driver, "auction-driver-" + threads.size());
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        scheduler.shutdownNow();
+
+        // Answers still on their way belong to the run
+        Instant giveUp = Instant.now().plusSeconds(30);
+        while (inFlight.get() > 0 && Instant.now().isBefore(giveUp)) {
+            Thread.sleep(50);
+        }
+        report.printSummary(System.out, options.duration().minus(options.warmup()));
+    }
+
+    /**
+     * Register and log in through the API.
+     *
+     * @return the bearer token
+     */
+    private static String signUp(GraphQlClient client, String username, String role, Long teamId) {
+        Map<String, Object> input = new HashMap<>();
+        input.put("username", username);
+        input.put("password", PASSWORD);
+        input.put("email", username + "@load.test");
+        input.put("role", role);
+        input.put("teamId", teamId);
+        client.call(null, REGISTER, Map.of("input", input)).require();
+
+        return client.call(null, LOGIN, Map.of("username", username, "password", PASSWORD))
+                .require().path("login").path("token").asString();
+    }
+
+    /**
+     * The backend in this JVM, on an in-memory H2 database and a random port.
+     */
+    private static ConfigurableApplicationContext startBackend(LoadTestOptions options) {
+        // Command-line arguments: they override application.yml, default properties do not
+        String[] args = {
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest_" + UUID.randomUUID()
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.flyway.enabled=false", // schema from the mappings, with H2's own dialect
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--auction.bidding.event-log.path="
+                        + Path.of(System.getProperty("java.io.tmpdir"), "auction-loadtest", UUID.randomUUID() + ".log"),
+                "--auction.timer.initial=" + options.initialTimer().toMillis() + "ms",
+                "--auction.timer.after-bid=" + options.afterBid().toMillis() + "ms",
+                "--spring.threads.virtual.enabled=" + options.virtualThreads()
+        };
+        return new SpringApplicationBuilder(AuctionBackendApplication.class).run(args);
+    }
+}
@@ -0,0 +1,107 @@
+package com.auction.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options, as --name=value.
+ *
+ * --url            GraphQL endpoint of a running backend; default: start one on embedded H2
+ * --teams          teams (each with its own TEAM_USER login), default 20
+ * --auctions       auctions run in parallel, one player under the hammer each, default 4
+ * --rate           bids per second per auction while the timer has time left, default 20
+ * --burst-window   time left on the timer below which bidders hurry, default 1s
+ * --burst-factor   bid rate multiplier inside the burst window, default 10
+ * --open-phase     mean time a player is bid on freely; after it bidders only bid
+ *                  inside the burst window (sniping), default 5s
+ * --duration       how long to bid, default 60s
+ * --warmup         bidding at the start of the duration left out of the summary, default 0s
+ * --report-every   interval report period, default 10s
+ * --poll           how often each auction's state is polled, default 250ms
+ * --purse          purse of every team, default 1000000
+ * --max-valuation  highest price a team will go to, as a multiple of the base price, default 10
+ * --pollers        client screens polling the board and bid history (see Pollers), default 0
+ * --poller-interval  pause between a poller's answer and its next poll, default 1s
+ * --initial-timer  embedded only: timer when a player goes LIVE, default 10s
+ * --after-bid      embedded only: timer after each valid bid, default 3s
+ * --virtual-threads  embedded only: spring.threads.virtual.enabled, default true
+ */
+record LoadTestOptions(
+        String url,
+        int teams,
+        int auctions,
+        double rate,
+        Duration burstWindow,
+        double burstFactor,
+        Duration openPhase,
+        Duration duration,
+        Duration warmup,
+        Duration reportEvery,
+        Duration poll,
+        BigDecimal purse,
+        double maxValuation,
+        int pollers,
+        Duration pollerInterval,
+        Duration initialTimer,
+        Duration afterBid,
+        boolean virtualThreads
+) {
+
+    private static final Set<String> NAMES = Set.of(
+            "teams", "auctions", "rate", "burst-window", "burst-factor", "open-phase", "duration", "warmup", "report-every",
+            "poll", "purse", "max-valuation", "pollers", "poller-interval", "initial-timer", "after-bid", "virtual-threads"
+    );
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                values.remove("url"),
+                Integer.parseInt(values.getOrDefault("teams", "20")),
+                Integer.parseInt(values.getOrDefault("auctions", "4")),
+                Double.parseDouble(values.getOrDefault("rate", "20")),
+                duration(values.getOrDefault("burst-window", "1s")),
+                Double.parseDouble(values.getOrDefault("burst-factor", "10")),
+                duration(values.getOrDefault("open-phase", "5s")),
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("warmup", "0s")),
+                duration(values.getOrDefault("report-every", "10s")),
+                duration(values.getOrDefault("poll", "250ms")),
+                new BigDecimal(values.getOrDefault("purse", "1000000")),
+                Double.parseDouble(values.getOrDefault("max-valuation", "10")),
+                Integer.parseInt(values.getOrDefault("pollers", "0")),
+                duration(values.getOrDefault("poller-interval", "1s")),
+                duration(values.getOrDefault("initial-timer", "10s")),
+                duration(values.getOrDefault("after-bid", "3s")),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "true"))
+        );
+
+        values.keySet().removeAll(NAMES);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.warmup().compareTo(options.duration()) >= 0) {
+            throw new IllegalArgumentException("The warmup must be shorter than the duration");
+        }
+        if (options.teams() < 2) {
+            throw new IllegalArgumentException("At least two teams are needed to bid against each other");
+        }
+        return options;
+    }
+
+    private static Duration duration(String value) {
+        return DurationStyle.detectAndParse(value);
+    }
+}
@@ -0,0 +1,107 @@
+package com.auction.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client screens polling the board and the bid history, as the frontend
+ * does (frontend/src/graphql/queries.ts), with the teams' tokens.
+ *
+ * Each poller waits for its answer, then --poller-interval, then polls
+ * again (closed loop: a slow server gets fewer polls, not a backlog), taking
+ * turns between the board and the bids of the player under the hammer.
+ * Unlike auctionState both read the database, so with --pollers in the
+ * thousands the requests queue on the connection pool.
+ */
+final class Pollers {
+
+    private static final String BOARD = """
+            query GetAuctionPlayers($auctionId: ID!) {
+              auctionPlayers(auctionId: $auctionId) {
+                id status basePrice currentPrice timerEndAt
+                player { id name category }
+                currentHighestBidTeam { id name }
+              }
+            }
+            """;
+
+    private static final String BIDS = """
+            query GetBidsForAuctionPlayer($auctionPlayerId: ID!) {
+              bids(auctionPlayerId: $auctionPlayerId) {
+                id amount createdAt
+                team { id name }
+              }
+            }
+            """;
+
+    private final GraphQlClient client;
+    private final List<AuctionDriver.Bidder> bidders;
+    private final List<AuctionDriver> drivers;
+    private final LoadTestOptions options;
+    private final LoadReport report;
+    private final AtomicInteger inFlight;
+    private final ScheduledExecutorService scheduler;
+    private final Instant deadline;
+
+    Pollers(
+            GraphQlClient client,
+            List<AuctionDriver.Bidder> bidders,
+            List<AuctionDriver> drivers,
+            LoadTestOptions options,
+            LoadReport report,
+            AtomicInteger inFlight,
+            ScheduledExecutorService scheduler,
+            Instant deadline
+    ) {
+        this.client = client;
+        this.bidders = bidders;
+        this.drivers = drivers;
+        this.options = options;
+        this.report = report;
+        this.inFlight = inFlight;
+        this.scheduler = scheduler;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Start every poller, spread over the first interval.
+     */
+    void start() {
+        long intervalMillis = options.pollerInterval().toMillis();
+        for (int i = 0; i < options.pollers(); i++) {
+            int poller = i;
+            long offset = ThreadLocalRandom.current().nextLong(Math.max(intervalMillis, 1));
+            scheduler.schedule(() -> poll(poller, false), offset, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void poll(int poller, boolean bids) {
+        AuctionDriver driver = drivers.get(poller % drivers.size());
+        String token = bidders.get(poller % bidders.size()).token();
+
+        Long auctionPlayerId = driver.currentAuctionPlayerId();
+        boolean pollBids = bids && auctionPlayerId != null;
+        String document = pollBids ? BIDS : BOARD;
+        Map<String, Object> variables = pollBids
+                ? Map.of("auctionPlayerId", auctionPlayerId)
+                : Map.of("auctionId", driver.auctionId());
+
+        long sentAt = System.nanoTime();
+        inFlight.incrementAndGet();
+        client.execute(token, document, variables).whenComplete((result, failure) -> {
+            try {
+                report.poll(sentAt, failure == null && result.ok());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            if (Instant.now().isBefore(deadline)) {
+                scheduler.schedule(() -> poll(poller, !bids), options.pollerInterval().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+}
@@ -3,8 +3,12 @@ import {
   InMemoryCache,
   HttpLink,
   from,
+  split,
 } from "@apollo/client/core";
 import { setContext } from "@apollo/client/link/context";
+import { PersistedQueryLink } from "@apollo/client/link/persisted-queries";
+import { getMainDefinition } from "@apollo/client/utilities";
+import { createWebSocketLink } from "./webSocketLink";
 
 /**
  * HTTP Link - GraphQL endpoint connection
@@ -41,14 +45,64 @@ const authLink = setContext((_, { headers }) => {
   };
 });
 
+/**
+ * SHA-256 of a query document, hex encoded (Web Crypto, no extra dependency)
+ */
+const sha256 = async (query: string): Promise<string> => {
+  const digest = await crypto.subtle.digest(
+    "SHA-256",
+    new TextEncoder().encode(query)
+  );
+  return Array.from(new Uint8Array(digest))
+    .map((byte) => byte.toString(16).padStart(2, "0"))
+    .join("");
+};
+
+/**
+ * Persisted Query Link - Sends the query hash instead of the query text
+ *
+ * How it works:
+ * 1. First request for a query sends only its SHA-256 hash
+ * 2. Server unknown hash → PersistedQueryNotFound → link resends with the full query
+ * 3. Server keeps the parsed, validated document; later polls send the hash only
+ *
+ * Why?
+ * - Board and bid-history polls repeat the same few queries
+ * - Smaller requests, and the server skips parsing and validation
+ * - With the server in allow-list mode, only the operations in
+ *   persisted-query-manifest.json (npm run persisted-queries) are accepted
+ */
+const persistedQueryLink = new PersistedQueryLink({ sha256 });
+
+/**
+ * WebSocket Link - Subscriptions (live bids and board changes)
+ *
+ * Why a separate link?
+ * - The server pushes each change once it is stored: no polling
+ * - Subscriptions are public (read-only), so no auth header is needed
+ */
+const wsLink = createWebSocketLink("ws://localhost:8080/graphql-ws");
+
 /**
  * Apollo Client Instance
  *
- * Link chain: authLink → httpLink
+ * Subscriptions → wsLink
+ * Everything else: authLink → persistedQueryLink → httpLink
  * 1. authLink adds Authorization header
- * 2. httpLink sends request to backend
+ * 2. persistedQueryLink replaces the query text by its hash
+ * 3. httpLink sends request to backend
  */
 export const client = new ApolloClient({
-  link: from([authLink, httpLink]),
+  link: split(
+    ({ query }) => {
+      const definition = getMainDefinition(query);
+      return (
+        definition.kind === "OperationDefinition" &&
+        definition.operation === "subscription"
+      );
+    },
+    wsLink,
+    from([authLink, persistedQueryLink, httpLink]),
+  ),
   cache: new InMemoryCache(),
 });
@@ -0,0 +1,147 @@
+import { ApolloLink } from "@apollo/client/core";
+import { print, type FormattedExecutionResult } from "graphql";
+import { Observable, type Subscriber } from "rxjs";
+
+/**
+ * WebSocket Link - GraphQL subscriptions over one shared socket
+ *
+ * Speaks the graphql-transport-ws protocol, which the backend serves at
+ * /graphql-ws (no extra dependency: browser WebSocket + rxjs, which Apollo
+ * Client already uses).
+ *
+ * How it works:
+ * 1. The first subscription opens the socket and sends connection_init
+ * 2. After connection_ack, every active subscription is sent as "subscribe"
+ * 3. "next" messages are routed to their subscription by id
+ * 4. Unsubscribing sends "complete"; the socket stays open for the next one
+ * 5. If the socket drops, it reconnects and resubscribes what is still active
+ */
+
+const PROTOCOL = "graphql-transport-ws";
+const RECONNECT_DELAY_MS = 2000;
+
+type Request = {
+  query: string;
+  operationName?: string;
+  variables?: Record<string, unknown>;
+};
+
+type Message =
+  | { type: "connection_ack" | "ping" | "pong" }
+  | { type: "next"; id: string; payload: FormattedExecutionResult }
+  | { type: "error"; id: string; payload: FormattedExecutionResult["errors"] }
+  | { type: "complete"; id: string };
+
+class SubscriptionSocket {
+  private readonly url: string;
+  private readonly connectionParams: () => Record<string, unknown>;
+  private socket: WebSocket | null = null;
+  private acknowledged = false;
+  private nextId = 1;
+  private readonly active = new Map<
+    string,
+    { request: Request; subscriber: Subscriber<FormattedExecutionResult> }
+  >();
+
+  constructor(url: string, connectionParams: () => Record<string, unknown>) {
+    this.url = url;
+    this.connectionParams = connectionParams;
+  }
+
+  subscribe(
+    request: Request,
+    subscriber: Subscriber<FormattedExecutionResult>,
+  ): () => void {
+    const id = String(this.nextId++);
+    this.active.set(id, { request, subscriber });
+
+    if (this.acknowledged) {
+      this.send({ id, type: "subscribe", payload: request });
+    } else {
+      this.connect();
+    }
+
+    return () => {
+      if (this.active.delete(id) && this.acknowledged) {
+        this.send({ id, type: "complete" });
+      }
+    };
+  }
+
+  private connect() {
+    if (this.socket) return;
+
+    const socket = new WebSocket(this.url, PROTOCOL);
+    this.socket = socket;
+
+    socket.onopen = () => {
+      this.send({ type: "connection_init", payload: this.connectionParams() });
+    };
+
+    socket.onmessage = (event) => {
+      const message = JSON.parse(event.data) as Message;
+
+      switch (message.type) {
+        case "connection_ack":
+          this.acknowledged = true;
+          this.active.forEach(({ request }, id) =>
+            this.send({ id, type: "subscribe", payload: request }),
+          );
+          break;
+        case "ping":
+          this.send({ type: "pong" });
+          break;
+        case "next":
+          this.active.get(message.id)?.subscriber.next(message.payload);
+          break;
+        case "error":
+          // GraphQL errors of the operation: delivered as a result, like over HTTP
+          this.active.get(message.id)?.subscriber.next({ errors: message.payload });
+          this.finish(message.id);
+          break;
+        case "complete":
+          this.finish(message.id);
+          break;
+      }
+    };
+
+    socket.onclose = () => {
+      this.socket = null;
+      this.acknowledged = false;
+      if (this.active.size > 0) {
+        setTimeout(() => this.connect(), RECONNECT_DELAY_MS);
+      }
+    };
+  }
+
+  private finish(id: string) {
+    const subscription = this.active.get(id);
+    this.active.delete(id);
+    subscription?.subscriber.complete();
+  }
+
+  private send(message: object) {
+    this.socket?.send(JSON.stringify(message));
+  }
+}
+
+export const createWebSocketLink = (
+  url: string,
+  connectionParams: () => Record<string, unknown> = () => ({}),
+): ApolloLink => {
+  const socket = new SubscriptionSocket(url, connectionParams);
+
+  return new ApolloLink(
+    (operation) =>
+      new Observable<FormattedExecutionResult>((subscriber) =>
+        socket.subscribe(
+          {
+            query: print(operation.query),
+            operationName: operation.operationName,
+            variables: operation.variables,
+          },
+          subscriber,
+        ),
+      ),
+  );
+};
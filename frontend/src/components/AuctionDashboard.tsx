@@ -1,18 +1,47 @@
-import { useQuery } from "@apollo/client/react";
+import { useQuery, useSubscription } from "@apollo/client/react";
 import { useState } from "react";
-import { GET_AUCTION_PLAYERS } from "../graphql/queries";
-import type { GetAuctionPlayersResponse } from "../types/graphql";
+import { AUCTION_PLAYER_CHANGED, GET_AUCTION_PLAYERS } from "../graphql/queries";
+import type {
+  AuctionPlayerChangedResponse,
+  GetAuctionPlayersResponse,
+} from "../types/graphql";
 import AuctionPlayerList from "./AuctionPlayerList";
 import SelectedPlayerPanel from "./SelectedPlayerPanel";
 
+const AUCTION_ID = "1";
+
 export default function AuctionDashboard() {
   const { data, loading, error } = useQuery<GetAuctionPlayersResponse>(
     GET_AUCTION_PLAYERS,
     {
-      variables: { auctionId: "1" },
+      variables: { auctionId: AUCTION_ID },
     },
   );
 
+  // Live board: every stored change is pushed and merged into the list
+  useSubscription<AuctionPlayerChangedResponse>(AUCTION_PLAYER_CHANGED, {
+    variables: { auctionId: AUCTION_ID },
+    onData: ({ client, data: result }) => {
+      const changed = result.data?.auctionPlayerChanged;
+      if (!changed) return;
+
+      // Same entity as the board rows, so it normalizes onto them
+      const row = { ...changed, __typename: "AuctionPlayer" };
+      client.cache.updateQuery<GetAuctionPlayersResponse>(
+        { query: GET_AUCTION_PLAYERS, variables: { auctionId: AUCTION_ID } },
+        (current) => {
+          if (!current) return current;
+          const known = current.auctionPlayers.some((ap) => ap.id === row.id);
+          return {
+            auctionPlayers: known
+              ? current.auctionPlayers.map((ap) => (ap.id === row.id ? row : ap))
+              : [...current.auctionPlayers, row],
+          };
+        },
+      );
+    },
+  });
+
   const [selectedAuctionPlayerId, setSelectedAuctionPlayerId] = useState<
     string | null
   >(null);
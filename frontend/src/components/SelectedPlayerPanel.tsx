@@ -1,10 +1,15 @@
-import { useMutation, useQuery } from "@apollo/client/react";
+import { useMutation, useQuery, useSubscription } from "@apollo/client/react";
 import type {
   AuctionPlayer,
+  BidPlacedResponse,
   GetBidsResponse,
   PlaceBidResponse,
 } from "../types/graphql";
-import { GET_BIDS_FOR_AUCTION_PLAYER, PLACE_BID } from "../graphql/queries";
+import {
+  BID_PLACED,
+  GET_BIDS_FOR_AUCTION_PLAYER,
+  PLACE_BID,
+} from "../graphql/queries";
 import { useState } from "react";
 
 type Props = {
@@ -22,15 +27,27 @@ export default function SelectedPlayerPanel({ auctionPlayer }: Props) {
     },
   );
 
+  // Bid history: every stored bid (anyone's) is pushed and appended
+  useSubscription<BidPlacedResponse>(BID_PLACED, {
+    variables: auctionPlayerId ? { auctionPlayerId } : undefined,
+    skip: !auctionPlayerId,
+    onData: ({ client, data: result }) => {
+      const placed = result.data?.bidPlaced;
+      if (!placed || !auctionPlayerId) return;
+
+      const bid = { ...placed, __typename: "Bid" };
+      client.cache.updateQuery<GetBidsResponse>(
+        { query: GET_BIDS_FOR_AUCTION_PLAYER, variables: { auctionPlayerId } },
+        (current) =>
+          current && !current.bids.some((b) => b.id === bid.id)
+            ? { bids: [...current.bids, bid] }
+            : current,
+      );
+    },
+  });
+
   const [placeBid, { loading: placingBid, error: bidError }] =
-    useMutation<PlaceBidResponse>(PLACE_BID, {
-      refetchQueries: [
-        {
-          query: GET_BIDS_FOR_AUCTION_PLAYER,
-          variables: auctionPlayerId ? { auctionPlayerId } : undefined,
-        },
-      ],
-    });
+    useMutation<PlaceBidResponse>(PLACE_BID);
 
   // hooks must be called unconditionally and in the same order
   const [bidAmount, setBidAmount] = useState<number | null>(null);
@@ -6,6 +6,7 @@ export const GET_AUCTION_PLAYERS = gql`
       status
       basePrice
       currentPrice
+      timerEndAt
       player {
         id
         name
@@ -46,3 +47,38 @@ export const PLACE_BID = gql`
     }
   }
 `;
+
+export const AUCTION_PLAYER_CHANGED = gql`
+  subscription AuctionPlayerChanged($auctionId: ID!) {
+    auctionPlayerChanged(auctionId: $auctionId) {
+      id
+      status
+      basePrice
+      currentPrice
+      timerEndAt
+      player {
+        id
+        name
+        category
+      }
+      currentHighestBidTeam {
+        id
+        name
+      }
+    }
+  }
+`;
+
+export const BID_PLACED = gql`
+  subscription BidPlaced($auctionPlayerId: ID!) {
+    bidPlaced(auctionPlayerId: $auctionPlayerId) {
+      id
+      amount
+      createdAt
+      team {
+        id
+        name
+      }
+    }
+  }
+`;
@@ -16,12 +16,17 @@ export type AuctionPlayer = {
   currentPrice: number;
   player: Player;
   currentHighestBidTeam: Team | null;
+  timerEndAt: string | null;
 };
 
 export type GetAuctionPlayersResponse = {
   auctionPlayers: AuctionPlayer[];
 };
 
+export type AuctionPlayerChangedResponse = {
+  auctionPlayerChanged: AuctionPlayer;
+};
+
 export type Bid = {
   id: string;
   amount: number;
@@ -36,6 +41,10 @@ export type GetBidsResponse = {
   bids: Bid[];
 };
 
+export type BidPlacedResponse = {
+  bidPlaced: Bid;
+};
+
 export type PlaceBidResponse = {
   placeBid: AuctionPlayer;
 };